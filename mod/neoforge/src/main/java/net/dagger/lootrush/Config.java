@@ -1,5 +1,6 @@
 package net.dagger.lootrush;
 
+import net.dagger.lootrush.service.RoundTarget;
 import net.neoforged.neoforge.common.ModConfigSpec;
 
 import java.util.Arrays;
@@ -106,5 +107,83 @@ public class Config {
             .comment("Maximum coordinate for scatter teleport")
             .defineInRange("scatter-max-coord", 100000, 1000, 1000000);
 
+    public static final ModConfigSpec.IntValue SCATTER_MIN_DISTANCE = BUILDER
+            .comment("Minimum distance between scattered players in blocks")
+            .defineInRange("scatter-min-distance", 10000, 0, 1000000);
+
+    public static final ModConfigSpec.IntValue SCATTER_SEARCH_CONCURRENCY = BUILDER
+            .comment("How many players search for a safe scatter location at the same time")
+            .defineInRange("scatter-search-concurrency", 4, 1, 64);
+
+    public static final ModConfigSpec.IntValue SPAWN_POOL_SIZE = BUILDER
+            .comment("How many pre-verified safe spawn points to keep in reserve between rounds (0 disables the pool)")
+            .defineInRange("spawn-pool-size", 16, 0, 256);
+
+    public static final ModConfigSpec.IntValue SPAWN_POOL_TICK_BUDGET_MS = BUILDER
+            .comment("The spawn pool is refilled only while the average server tick is faster than this many milliseconds")
+            .defineInRange("spawn-pool-tick-budget-ms", 40, 1, 1000);
+
+    public static final ModConfigSpec.IntValue SCATTER_SAMPLE_STEP = BUILDER
+            .comment("Spacing in blocks between extra columns sampled in a probed chunk when the candidate column is unsafe (1 = all 256 columns, 0 disables sampling)")
+            .defineInRange("scatter-sample-step", 4, 0, 16);
+
+    public static final ModConfigSpec.IntValue CHUNK_LOAD_MAX_IN_FLIGHT = BUILDER
+            .comment("Maximum number of chunk loads in flight while searching and preloading scatter locations")
+            .defineInRange("chunk-load-max-in-flight", 16, 1, 256);
+
+    public static final ModConfigSpec.IntValue CHUNK_LOAD_TARGET_MSPT = BUILDER
+            .comment("When the average server tick is slower than this many milliseconds, fewer chunk loads are kept in flight")
+            .defineInRange("chunk-load-target-mspt", 45, 1, 1000);
+
+    public static final ModConfigSpec.IntValue SCATTER_READY_RADIUS = BUILDER
+            .comment("Radius in chunks around each scatter target that must be loaded before players are teleported; the rest of the 25x25 area keeps loading afterwards")
+            .defineInRange("scatter-ready-radius", 6, 0, 12);
+
+    public static final ModConfigSpec.BooleanValue SCATTER_STREAMING = BUILDER
+            .comment("Teleport each player as soon as their own ready radius is loaded; the far ring keeps loading in the background without delaying the countdown")
+            .define("scatter-streaming", false);
+
+    public static final ModConfigSpec.IntValue CHUNK_PIN_SECONDS = BUILDER
+            .comment("How many seconds after the round starts the chunks around scatter targets stay pinned in memory (0 releases them immediately)")
+            .defineInRange("chunk-pin-seconds", 30, 0, 600);
+
+    public static final ModConfigSpec.ConfigValue<List<? extends String>> SCATTER_BIOME_ALLOW = BUILDER
+            .comment("If not empty, scatter locations are only searched in these biomes.",
+                    "Use biome ids (e.g. minecraft:plains) or regex with 'REGEX:' prefix.")
+            .defineList("scatter-biome-allow", List.of(), (java.util.function.Supplier<String>) null, obj -> obj instanceof String);
+
+    public static final ModConfigSpec.ConfigValue<List<? extends String>> SCATTER_BIOME_DENY = BUILDER
+            .comment("Biomes where scatter locations are never searched; checked before any chunk is generated.",
+                    "Use biome ids (e.g. minecraft:river) or regex with 'REGEX:' prefix.")
+            .defineList("scatter-biome-deny", Arrays.asList(
+                    "REGEX:.*ocean",
+                    "minecraft:river",
+                    "minecraft:frozen_river"
+            ), (java.util.function.Supplier<String>) null, obj -> obj instanceof String);
+
+    public static final ModConfigSpec.EnumValue<RoundTarget.Mode> ROUND_MODE = BUILDER
+            .comment("Round type: SINGLE - one item, ANY - any item from a set (see round-item-sets), COLLECT - collect round-required of round-target-count random items")
+            .defineEnum("round-mode", RoundTarget.Mode.SINGLE);
+
+    public static final ModConfigSpec.IntValue ROUND_TARGET_COUNT = BUILDER
+            .comment("How many random items are picked in COLLECT mode")
+            .defineInRange("round-target-count", 3, 1, 64);
+
+    public static final ModConfigSpec.IntValue ROUND_REQUIRED = BUILDER
+            .comment("How many of the picked items must be collected in COLLECT mode")
+            .defineInRange("round-required", 2, 1, 64);
+
+    public static final ModConfigSpec.ConfigValue<List<? extends String>> ROUND_ITEM_SETS = BUILDER
+            .comment("Sets for ANY mode: an item tag prefixed with # (e.g. #minecraft:wool) or a comma-separated list of item ids")
+            .defineList("round-item-sets", Arrays.asList(
+                    "#minecraft:wool",
+                    "#minecraft:logs",
+                    "#minecraft:beds"
+            ), (java.util.function.Supplier<String>) null, obj -> obj instanceof String);
+
+    public static final ModConfigSpec.BooleanValue WIN_COUNT_NESTED = BUILDER
+            .comment("Count target items stored inside shulker boxes and bundles in the player's inventory")
+            .define("win-count-nested", true);
+
     static final ModConfigSpec SPEC = BUILDER.build();
 }
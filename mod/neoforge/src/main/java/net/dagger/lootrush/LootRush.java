@@ -1,6 +1,8 @@
 package net.dagger.lootrush;
 
 import com.mojang.logging.LogUtils;
+import net.dagger.lootrush.service.RoundSettings;
+import net.dagger.lootrush.service.ScatterSettings;
 import net.minecraft.server.MinecraftServer;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.ModContainer;
@@ -9,6 +11,7 @@ import net.neoforged.fml.config.ModConfig;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.server.ServerStartingEvent;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
 import org.slf4j.Logger;
 
 @Mod(LootRush.MODID)
@@ -32,8 +35,27 @@ public class LootRush {
         this.gameManager = new LootRushGameManager(
                 new java.util.ArrayList<>(Config.BANNED_ITEMS.get()),
                 Config.SWAP_INTERVAL_SECONDS.get(),
-                Config.SCATTER_MIN_COORD.get(),
-                Config.SCATTER_MAX_COORD.get()
+                new ScatterSettings(
+                        Config.SCATTER_MIN_COORD.get(),
+                        Config.SCATTER_MAX_COORD.get(),
+                        Config.SCATTER_MIN_DISTANCE.get(),
+                        Config.SCATTER_SEARCH_CONCURRENCY.get(),
+                        Config.SPAWN_POOL_SIZE.get(),
+                        Config.SPAWN_POOL_TICK_BUDGET_MS.get(),
+                        Config.SCATTER_SAMPLE_STEP.get(),
+                        Config.CHUNK_LOAD_MAX_IN_FLIGHT.get(),
+                        Config.CHUNK_LOAD_TARGET_MSPT.get(),
+                        Config.SCATTER_READY_RADIUS.get(),
+                        Config.SCATTER_STREAMING.get(),
+                        Config.CHUNK_PIN_SECONDS.get(),
+                        new java.util.ArrayList<>(Config.SCATTER_BIOME_ALLOW.get()),
+                        new java.util.ArrayList<>(Config.SCATTER_BIOME_DENY.get())),
+                new RoundSettings(
+                        Config.ROUND_MODE.get(),
+                        Config.ROUND_TARGET_COUNT.get(),
+                        Config.ROUND_REQUIRED.get(),
+                        new java.util.ArrayList<>(Config.ROUND_ITEM_SETS.get()),
+                        Config.WIN_COUNT_NESTED.get())
         );
         NeoForge.EVENT_BUS.register(gameManager);
         if (server != null) {
@@ -49,6 +71,13 @@ public class LootRush {
         gameManager.setServer(server);
     }
 
+    @SubscribeEvent
+    public void onServerStopping(ServerStoppingEvent event) {
+        if (gameManager != null) {
+            gameManager.shutdown();
+        }
+    }
+
     @SubscribeEvent
     public void onRegisterCommands(RegisterCommandsEvent event) {
         initGameManager();
@@ -23,12 +23,16 @@ import net.minecraft.server.permissions.PermissionLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.EquipmentSlot;
-import net.minecraft.world.item.Item;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDamageEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDeathEvent;
 import net.neoforged.neoforge.event.entity.player.ItemEntityPickupEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerContainerEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
 import net.neoforged.neoforge.event.tick.PlayerTickEvent;
@@ -36,6 +40,7 @@ import net.neoforged.neoforge.event.tick.ServerTickEvent;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -45,21 +50,39 @@ import java.util.stream.Collectors;
 
 public class LootRushGameManager {
     private static final int COUNTDOWN_SECONDS = 10;
+    private static final int SAFETY_SCAN_TICKS = 100;
 
     private final LanguageService languageService;
     private final RoleService roleService;
     private final TeleportService teleportService;
+    private final SpawnPoolService spawnPoolService;
+    private final LocationProbeService locationProbeService;
+    private final ProbeIndexService probeIndexService;
+    private final ChunkTicketService chunkTicketService;
+    private final ProbeFeedbackService probeFeedbackService;
     private final SwapService swapService;
     private final ItemService itemService;
     private final LivesService livesService;
     private final ScoreboardService scoreboardService;
     private final TimerService timerService;
     private final WinService winService;
+    private final ContainerListener inventoryListener = new ContainerListener() {
+        @Override
+        public void slotChanged(AbstractContainerMenu menu, int slotIndex, ItemStack stack) {
+            if (menu.getSlot(slotIndex).container instanceof Inventory inventory && inventory.player instanceof ServerPlayer player) {
+                onInventorySlotChanged(player, stack);
+            }
+        }
+
+        @Override
+        public void dataChanged(AbstractContainerMenu menu, int dataSlot, int value) {
+        }
+    };
     private final GameInfoService gameInfoService;
 
     private MinecraftServer server;
     private GameState state = GameState.IDLE;
-    private Item targetItem;
+    private RoundTarget roundTarget;
     private boolean debugEnabled = false;
 
     private boolean isCountingDown = false;
@@ -67,21 +90,27 @@ public class LootRushGameManager {
     private long lastCountdownTick = 0;
     private final Map<UUID, BlockPos> countdownPositions = new HashMap<>();
 
-    public LootRushGameManager(List<String> bannedItems, int swapIntervalSeconds, int scatterMinCoord, int scatterMaxCoord) {
+    public LootRushGameManager(List<String> bannedItems, int swapIntervalSeconds, ScatterSettings scatterSettings, RoundSettings roundSettings) {
         this.languageService = new LanguageService();
         this.roleService = new RoleService(languageService);
-        this.itemService = new ItemService(bannedItems);
+        this.itemService = new ItemService(bannedItems, roundSettings);
         this.livesService = new LivesService();
         this.scoreboardService = new ScoreboardService(languageService);
+        this.livesService.setListener(scoreboardService::onLivesChanged);
         this.timerService = new TimerService(scoreboardService);
-        this.winService = new WinService(roleService);
+        this.winService = new WinService(roleService, roundSettings.countNested());
         this.gameInfoService = new GameInfoService(languageService);
 
-        this.teleportService = new TeleportService(languageService, scatterMinCoord, scatterMaxCoord);
+        this.probeIndexService = new ProbeIndexService();
+        this.chunkTicketService = new ChunkTicketService(scatterSettings);
+        this.probeFeedbackService = new ProbeFeedbackService(languageService);
+        this.locationProbeService = new LocationProbeService(probeIndexService, new BiomeFilterService(scatterSettings), scatterSettings);
+        this.spawnPoolService = new SpawnPoolService(locationProbeService, probeIndexService, () -> state == GameState.IDLE, scatterSettings);
+        this.teleportService = new TeleportService(languageService, locationProbeService, spawnPoolService, chunkTicketService, probeFeedbackService, scatterSettings);
 
         this.swapService = new SwapService(
                 languageService,
-                () -> state == GameState.ACTIVE && targetItem != null,
+                () -> state == GameState.ACTIVE && roundTarget != null,
                 this::getActiveParticipants,
                 this::broadcastToParticipants,
                 gameInfoService::setProgress,
@@ -90,6 +119,13 @@ public class LootRushGameManager {
 
     public void setServer(MinecraftServer server) {
         this.server = server;
+        probeIndexService.load(server);
+    }
+
+    public void shutdown() {
+        locationProbeService.shutdown();
+        chunkTicketService.releaseAll();
+        probeIndexService.flush();
     }
 
     private WorldService getWorldService() {
@@ -110,7 +146,10 @@ public class LootRushGameManager {
                 .then(Commands.literal("stop").executes(this::handleStop))
                 .then(Commands.literal("status").executes(this::handleStatus))
                 .then(Commands.literal("skip").executes(this::handleSkip))
-                .then(Commands.literal("debug").executes(this::handleDebug))
+                .then(Commands.literal("debug")
+                        .executes(this::handleDebug)
+                        .then(Commands.literal("tickets").executes(this::handleDebugTickets))
+                        .then(Commands.literal("dump").executes(this::handleDebugDump)))
                 .then(Commands.literal("lang")
                         .executes(this::handleLangUsage)
                         .then(Commands.argument("language", StringArgumentType.word())
@@ -168,7 +207,7 @@ public class LootRushGameManager {
             return 0;
         }
 
-        targetItem = itemService.pickRandomItem();
+        roundTarget = itemService.pickRoundTarget();
         state = GameState.COUNTDOWN;
         roleService.prepareSpectators(spectators);
         getWorldService().setWorldStateForLoading();
@@ -185,14 +224,14 @@ public class LootRushGameManager {
             LanguageService.Language playerLang = languageService.getLanguage(player);
             MutableComponent msg = Component.empty()
                     .append(Messages.get(playerLang, Messages.MessageKey.NEED_TO_OBTAIN))
-                    .append(formatItem(targetItem).withStyle(ChatFormatting.AQUA));
+                    .append(roundTarget.describe(playerLang).withStyle(ChatFormatting.AQUA));
             player.sendSystemMessage(msg);
         }
         if (server != null) {
             LanguageService.Language defaultLang = languageService.getDefaultLanguage();
             server.sendSystemMessage(Component.empty()
                     .append(Messages.get(defaultLang, Messages.MessageKey.NEED_TO_OBTAIN))
-                    .append(formatItem(targetItem).withStyle(ChatFormatting.AQUA)));
+                    .append(roundTarget.describe(defaultLang).withStyle(ChatFormatting.AQUA)));
         }
 
         playSoundForAll(SoundEvents.ENDER_DRAGON_GROWL, 1.0f, 1.0f);
@@ -201,8 +240,10 @@ public class LootRushGameManager {
         livesService.initializeLives(participantsSnapshot);
         scoreboardService.createScoreboard(source.getServer().getScoreboard(), livesService.getAllLives(), online);
 
+        chunkTicketService.releaseAll();
         teleportService.scatterPlayers(participantsSnapshot).whenComplete((ignored, throwable) -> {
              source.getServer().execute(() -> {
+                 probeIndexService.flush();
                  if (throwable != null) {
                      if (isCancellation(throwable)) {
                          return;
@@ -214,10 +255,10 @@ public class LootRushGameManager {
                  }
                  if (state != GameState.COUNTDOWN) return;
 
-                 winService.removeTargetItemFromPlayers(participantsSnapshot, targetItem);
+                 winService.removeTargetItemFromPlayers(participantsSnapshot, roundTarget);
                  getWorldService().setWorldStateActive();
                  getWorldService().resetBorder();
-                 gameInfoService.showTargetItem(targetItem, online);
+                 gameInfoService.showTarget(roundTarget, online);
                  startCountdown();
              });
         });
@@ -256,15 +297,15 @@ public class LootRushGameManager {
             context.getSource().sendFailure(Messages.get(lang, Messages.MessageKey.GAME_NOT_ACTIVE));
             return 0;
         }
-        if (targetItem == null) {
+        if (roundTarget == null) {
             context.getSource().sendFailure(Messages.get(lang, Messages.MessageKey.NO_CURRENT_ITEM));
             return 0;
         }
 
-        targetItem = itemService.pickRandomItem();
-        gameInfoService.updateTargetItem(targetItem);
+        roundTarget = itemService.pickRoundTarget();
+        gameInfoService.updateTarget(roundTarget);
         if (server != null) {
-            winService.removeTargetItemFromPlayers(server.getPlayerList().getPlayers(), targetItem);
+            winService.removeTargetItemFromPlayers(server.getPlayerList().getPlayers(), roundTarget);
         }
 
         if (server != null) {
@@ -273,13 +314,13 @@ public class LootRushGameManager {
                 player.sendSystemMessage(Component.empty()
                         .append(Messages.get(playerLang, Messages.MessageKey.ITEM_SKIPPED))
                         .append(Messages.get(playerLang, Messages.MessageKey.NEW_ITEM))
-                        .append(formatItem(targetItem).withStyle(ChatFormatting.AQUA)));
+                        .append(roundTarget.describe(playerLang).withStyle(ChatFormatting.AQUA)));
             }
             LanguageService.Language defaultLang = languageService.getDefaultLanguage();
             server.sendSystemMessage(Component.empty()
                     .append(Messages.get(defaultLang, Messages.MessageKey.ITEM_SKIPPED))
                     .append(Messages.get(defaultLang, Messages.MessageKey.NEW_ITEM))
-                    .append(formatItem(targetItem).withStyle(ChatFormatting.AQUA)));
+                    .append(roundTarget.describe(defaultLang).withStyle(ChatFormatting.AQUA)));
         }
         return 1;
     }
@@ -291,11 +332,11 @@ public class LootRushGameManager {
         } else if (state == GameState.COUNTDOWN) {
             context.getSource().sendSuccess(() -> Component.empty()
                     .append(Messages.get(lang, Messages.MessageKey.COUNTDOWN_IN_PROGRESS))
-                    .append(formatItem(targetItem).withStyle(ChatFormatting.AQUA)), false);
+                    .append(roundTarget.describe(lang).withStyle(ChatFormatting.AQUA)), false);
         } else {
             context.getSource().sendSuccess(() -> Component.empty()
                     .append(Messages.get(lang, Messages.MessageKey.GAME_ACTIVE))
-                    .append(formatItem(targetItem).withStyle(ChatFormatting.AQUA)), false);
+                    .append(roundTarget.describe(lang).withStyle(ChatFormatting.AQUA)), false);
         }
         return 1;
     }
@@ -312,6 +353,27 @@ public class LootRushGameManager {
         return 1;
     }
 
+    private int handleDebugTickets(CommandContext<CommandSourceStack> context) {
+        LanguageService.Language lang = getLanguage(context.getSource());
+        context.getSource().sendSuccess(() -> Messages.get(lang, Messages.MessageKey.DEBUG_TICKETS, chunkTicketService.getPinnedChunks(),
+                chunkTicketService.getPinnedLevels(), chunkTicketService.getEstimatedBytes() / (1024L * 1024L)), false);
+        return 1;
+    }
+
+    private int handleDebugDump(CommandContext<CommandSourceStack> context) {
+        LanguageService.Language lang = getLanguage(context.getSource());
+        List<ProbeFeedbackService.Entry> history = probeFeedbackService.getHistory();
+        if (history.isEmpty()) {
+            context.getSource().sendSuccess(() -> Messages.get(lang, Messages.MessageKey.DEBUG_DUMP_EMPTY), false);
+            return 1;
+        }
+        context.getSource().sendSuccess(() -> Messages.get(lang, Messages.MessageKey.DEBUG_DUMP_HEADER, history.size()), false);
+        for (ProbeFeedbackService.Entry entry : history) {
+            context.getSource().sendSuccess(() -> Messages.get(lang, entry.key(), entry.args()), false);
+        }
+        return 1;
+    }
+
     private int handleLang(CommandContext<CommandSourceStack> context) {
         String langCode = StringArgumentType.getString(context, "language");
         LanguageService.Language newLang = LanguageService.Language.fromCode(langCode);
@@ -419,7 +481,9 @@ public class LootRushGameManager {
         timerService.cancel();
         swapService.stop();
         teleportService.cancel();
+        chunkTicketService.releaseAll();
         livesService.clear();
+        winService.clear();
         if (server != null) {
             scoreboardService.clear(server.getScoreboard(), server.getPlayerList().getPlayers());
             getWorldService().setWorldStateAfterGame();
@@ -433,7 +497,7 @@ public class LootRushGameManager {
             }
         }
         state = GameState.IDLE;
-        targetItem = null;
+        roundTarget = null;
         gameInfoService.hide();
     }
 
@@ -457,6 +521,10 @@ public class LootRushGameManager {
 
         long now = System.currentTimeMillis();
         teleportService.tickInvulnerability(server);
+        spawnPoolService.tick(server);
+        chunkTicketService.tick(server);
+        probeFeedbackService.tick();
+        scoreboardService.tick(server);
 
         if (isCountingDown) {
             if (now - lastCountdownTick >= 1000) {
@@ -472,11 +540,12 @@ public class LootRushGameManager {
         }
 
         if (state == GameState.ACTIVE) {
-            timerService.tick(server.getScoreboard(), server.getPlayerList().getPlayers());
+            timerService.tick(server.getScoreboard());
             swapService.tick();
 
+            checkDirtyInventories();
             if (server.getTickCount() % 20 == 0) {
-                checkWinConditions();
+                checkWinConditions(server.getTickCount() % SAFETY_SCAN_TICKS == 0);
             }
         }
     }
@@ -487,28 +556,49 @@ public class LootRushGameManager {
                 LanguageService.Language playerLang = languageService.getLanguage(player);
                 player.sendSystemMessage(Component.empty()
                         .append(Messages.get(playerLang, Messages.MessageKey.START_GOOD_LUCK))
-                        .append(formatItem(targetItem).withStyle(ChatFormatting.AQUA)));
+                        .append(roundTarget.describe(playerLang).withStyle(ChatFormatting.AQUA)));
             }
             LanguageService.Language defaultLang = languageService.getDefaultLanguage();
             server.sendSystemMessage(Component.empty()
                     .append(Messages.get(defaultLang, Messages.MessageKey.START_GOOD_LUCK))
-                    .append(formatItem(targetItem).withStyle(ChatFormatting.AQUA)));
+                    .append(roundTarget.describe(defaultLang).withStyle(ChatFormatting.AQUA)));
         }
         state = GameState.ACTIVE;
+        if (server != null) {
+            chunkTicketService.releaseLater(server);
+        }
         long gameStartTime = System.currentTimeMillis();
         timerService.start(gameStartTime, state);
         swapService.start(gameStartTime);
     }
 
-    private void checkWinConditions() {
-        if (targetItem == null) return;
+    private void checkDirtyInventories() {
+        if (roundTarget == null) return;
 
-        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-            if (winService.hasTargetItem(player, targetItem)) {
+        for (UUID playerId : winService.drainDirty()) {
+            ServerPlayer player = server.getPlayerList().getPlayer(playerId);
+            if (player != null && winService.mightHaveTarget(player, roundTarget) && winService.hasTargetItem(player, roundTarget)) {
                 endGameWithWinner(player);
                 return;
             }
         }
+    }
+
+    private void checkWinConditions(boolean scanInventories) {
+        if (roundTarget == null) return;
+
+        if (scanInventories) {
+            winService.beginSweep();
+            for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                if (winService.isUnchanged(player, roundTarget)) {
+                    continue;
+                }
+                if (winService.hasTargetItem(player, roundTarget)) {
+                    endGameWithWinner(player);
+                    return;
+                }
+            }
+        }
 
         List<ServerPlayer> alive = getPlayersWithLives();
         if (alive.size() == 1) {
@@ -537,7 +627,7 @@ public class LootRushGameManager {
                         .append(Messages.get(playerLang, Messages.MessageKey.PLAYER_WON))
                         .append(Component.literal(winner.getName().getString()).withStyle(ChatFormatting.GREEN))
                         .append(Messages.get(playerLang, Messages.MessageKey.OBTAINED_FIRST))
-                        .append(formatItem(targetItem).withStyle(ChatFormatting.AQUA))
+                        .append(roundTarget.describe(playerLang).withStyle(ChatFormatting.AQUA))
                         .append(Messages.get(playerLang, Messages.MessageKey.AND_WON)));
             }
             LanguageService.Language defaultLang = languageService.getDefaultLanguage();
@@ -545,7 +635,7 @@ public class LootRushGameManager {
                     .append(Messages.get(defaultLang, Messages.MessageKey.PLAYER_WON))
                     .append(Component.literal(winner.getName().getString()).withStyle(ChatFormatting.GREEN))
                     .append(Messages.get(defaultLang, Messages.MessageKey.OBTAINED_FIRST))
-                    .append(formatItem(targetItem).withStyle(ChatFormatting.AQUA))
+                    .append(roundTarget.describe(defaultLang).withStyle(ChatFormatting.AQUA))
                     .append(Messages.get(defaultLang, Messages.MessageKey.AND_WON)));
         }
         resetPlayersAfterGame();
@@ -565,6 +655,7 @@ public class LootRushGameManager {
     @SubscribeEvent
     public void onPlayerJoin(PlayerEvent.PlayerLoggedInEvent event) {
         if (event.getEntity() instanceof ServerPlayer player) {
+            player.inventoryMenu.addSlotListener(inventoryListener);
             gameInfoService.addPlayer(player);
             if (state == GameState.ACTIVE || state == GameState.COUNTDOWN) {
                 scoreboardService.addViewer(server.getScoreboard(), player, livesService.getAllLives(), server.getPlayerList().getPlayers());
@@ -576,6 +667,7 @@ public class LootRushGameManager {
     public void onPlayerQuit(PlayerEvent.PlayerLoggedOutEvent event) {
         if (event.getEntity() instanceof ServerPlayer player) {
             gameInfoService.removePlayer(player);
+            winService.removePlayer(player);
             if (server != null) {
                 scoreboardService.removePlayer(server.getScoreboard(), player);
             }
@@ -586,10 +678,10 @@ public class LootRushGameManager {
     public void onPlayerDeath(LivingDeathEvent event) {
         if (state != GameState.ACTIVE) return;
         if (event.getEntity() instanceof ServerPlayer player) {
+            winService.invalidate(player);
             if (roleService.getRole(player) != Role.PLAYER) return;
 
             int lives = livesService.decreaseLives(player);
-            scoreboardService.updateAllPlayersLives(server.getScoreboard(), livesService.getAllLives(), server.getPlayerList().getPlayers());
 
             if (!livesService.hasLives(player)) {
                 roleService.setRole(player, Role.SPECTATOR);
@@ -605,16 +697,55 @@ public class LootRushGameManager {
 
     @SubscribeEvent
     public void onItemPickup(ItemEntityPickupEvent.Post event) {
-        if (state != GameState.ACTIVE) return;
-        if (event.getPlayer() instanceof ServerPlayer player) {
-            ItemStack stack = event.getItemEntity().getItem();
-            if (targetItem != null && stack.is(targetItem)) {
-                server.execute(() -> {
-                     if (winService.hasTargetItem(player, targetItem)) {
-                         endGameWithWinner(player);
-                     }
-                });
-            }
+        markInventoryDirty(event.getPlayer(), event.getOriginalStack());
+    }
+
+    @SubscribeEvent
+    public void onItemCrafted(PlayerEvent.ItemCraftedEvent event) {
+        markInventoryDirty(event.getEntity(), event.getCrafting());
+    }
+
+    @SubscribeEvent
+    public void onItemSmelted(PlayerEvent.ItemSmeltedEvent event) {
+        markInventoryDirty(event.getEntity(), event.getSmelting());
+    }
+
+    @SubscribeEvent
+    public void onContainerOpen(PlayerContainerEvent.Open event) {
+        event.getContainer().addSlotListener(inventoryListener);
+    }
+
+    @SubscribeEvent
+    public void onPlayerRespawn(PlayerEvent.PlayerRespawnEvent event) {
+        event.getEntity().inventoryMenu.addSlotListener(inventoryListener);
+    }
+
+    @SubscribeEvent
+    public void onContainerClose(PlayerContainerEvent.Close event) {
+        if (state == GameState.ACTIVE && event.getEntity() instanceof ServerPlayer player) {
+            winService.markDirty(player);
+        }
+    }
+
+    private void markInventoryDirty(Player entity, ItemStack stack) {
+        if (state != GameState.ACTIVE || roundTarget == null || !(entity instanceof ServerPlayer player)) {
+            return;
+        }
+        winService.noteItem(player, stack);
+        if (roundTarget.contains(stack) || winService.isCountingNested() && NestedContentsIndex.isContainer(stack)) {
+            winService.markDirty(player);
+        }
+    }
+
+    private void onInventorySlotChanged(ServerPlayer player, ItemStack stack) {
+        if (state != GameState.ACTIVE || roundTarget == null) {
+            return;
+        }
+        winService.noteItem(player, stack);
+        if (roundTarget.contains(stack) || winService.isCountingNested() && NestedContentsIndex.isContainer(stack)) {
+            winService.markDirty(player);
+        } else {
+            winService.invalidate(player);
         }
     }
 
@@ -665,12 +796,13 @@ public class LootRushGameManager {
 
     private void broadcast(Messages.MessageKey key, Object... args) {
         if (server == null) return;
+        Map<LanguageService.Language, Component> rendered = new EnumMap<>(LanguageService.Language.class);
         for (ServerPlayer player : server.getPlayerList().getPlayers()) {
             LanguageService.Language lang = languageService.getLanguage(player);
-            player.sendSystemMessage(Messages.get(lang, key, args));
+            player.sendSystemMessage(rendered.computeIfAbsent(lang, l -> Messages.get(l, key, args)));
         }
         LanguageService.Language defaultLang = languageService.getDefaultLanguage();
-        server.sendSystemMessage(Messages.get(defaultLang, key, args));
+        server.sendSystemMessage(rendered.computeIfAbsent(defaultLang, l -> Messages.get(l, key, args)));
     }
 
     private void broadcastToParticipants(Component component) {
@@ -686,11 +818,6 @@ public class LootRushGameManager {
         return getPlayersWithLives();
     }
 
-    private MutableComponent formatItem(Item item) {
-        if (item == null) return Component.literal("?");
-        return Component.translatable(item.getDescriptionId());
-    }
-
     private void playSoundForAll(net.minecraft.sounds.SoundEvent sound, float volume, float pitch) {
         if (server == null) return;
         for (ServerPlayer player : server.getPlayerList().getPlayers()) {
@@ -0,0 +1,71 @@
+package net.dagger.lootrush.service;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class ChunkTicketService {
+    private static final long ESTIMATED_CHUNK_BYTES = 160L * 1024L;
+
+    private final int pinTicks;
+    private final Map<ServerLevel, Set<Long>> pinned = new HashMap<>();
+    private int releaseAtTick = -1;
+
+    public ChunkTicketService(ScatterSettings settings) {
+        this.pinTicks = Math.max(0, settings.chunkPinSeconds()) * 20;
+    }
+
+    public void pin(ServerLevel level, int chunkX, int chunkZ) {
+        Set<Long> chunks = pinned.computeIfAbsent(level, key -> new HashSet<>());
+        if (chunks.add(ChunkPos.asLong(chunkX, chunkZ))) {
+            level.getChunkSource().addTicketWithRadius(TicketType.FORCED, new ChunkPos(chunkX, chunkZ), 0);
+        }
+    }
+
+    public void releaseLater(MinecraftServer server) {
+        if (pinTicks <= 0 || pinned.isEmpty()) {
+            releaseAll();
+            return;
+        }
+        releaseAtTick = server.getTickCount() + pinTicks;
+    }
+
+    public void tick(MinecraftServer server) {
+        if (releaseAtTick >= 0 && server.getTickCount() >= releaseAtTick) {
+            releaseAll();
+        }
+    }
+
+    public void releaseAll() {
+        releaseAtTick = -1;
+        for (Map.Entry<ServerLevel, Set<Long>> entry : pinned.entrySet()) {
+            ServerLevel level = entry.getKey();
+            for (long key : entry.getValue()) {
+                level.getChunkSource().removeTicketWithRadius(TicketType.FORCED, new ChunkPos(key), 0);
+            }
+        }
+        pinned.clear();
+    }
+
+    public int getPinnedChunks() {
+        int total = 0;
+        for (Set<Long> chunks : pinned.values()) {
+            total += chunks.size();
+        }
+        return total;
+    }
+
+    public int getPinnedLevels() {
+        return pinned.size();
+    }
+
+    public long getEstimatedBytes() {
+        return getPinnedChunks() * ESTIMATED_CHUNK_BYTES;
+    }
+}
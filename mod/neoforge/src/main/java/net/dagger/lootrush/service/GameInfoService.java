@@ -5,7 +5,6 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerBossEvent;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.BossEvent;
-import net.minecraft.world.item.Item;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -13,18 +12,18 @@ import java.util.Map;
 public class GameInfoService {
     private final LanguageService languageService;
     private final Map<LanguageService.Language, ServerBossEvent> bossBars = new HashMap<>();
-    private Item currentItem;
+    private RoundTarget currentTarget;
 
     public GameInfoService(LanguageService languageService) {
         this.languageService = languageService;
     }
 
-    public void showTargetItem(Item item, Iterable<ServerPlayer> players) {
+    public void showTarget(RoundTarget target, Iterable<ServerPlayer> players) {
         hide();
-        this.currentItem = item;
+        this.currentTarget = target;
 
         for (LanguageService.Language lang : LanguageService.Language.values()) {
-            Component title = Component.translatable(item.getDescriptionId()).withStyle(ChatFormatting.WHITE);
+            Component title = target.describe(lang).withStyle(ChatFormatting.WHITE);
 
             ServerBossEvent bossBar = new ServerBossEvent(title, BossEvent.BossBarColor.GREEN, BossEvent.BossBarOverlay.PROGRESS);
             bossBar.setProgress(0.0f);
@@ -41,11 +40,11 @@ public class GameInfoService {
             bar.removeAllPlayers();
         }
         bossBars.clear();
-        currentItem = null;
+        currentTarget = null;
     }
 
     public void addPlayer(ServerPlayer player) {
-        if (currentItem == null || bossBars.isEmpty()) {
+        if (currentTarget == null || bossBars.isEmpty()) {
             return;
         }
         LanguageService.Language lang = languageService.getLanguage(player);
@@ -65,7 +64,7 @@ public class GameInfoService {
     }
 
     public void updateLanguage(ServerPlayer player, LanguageService.Language oldLang, LanguageService.Language newLang) {
-        if (currentItem == null || bossBars.isEmpty()) {
+        if (currentTarget == null || bossBars.isEmpty()) {
             return;
         }
 
@@ -80,16 +79,16 @@ public class GameInfoService {
         }
     }
 
-    public void updateTargetItem(Item newItem) {
-        if (this.currentItem == null) {
+    public void updateTarget(RoundTarget newTarget) {
+        if (this.currentTarget == null) {
             return;
         }
-        this.currentItem = newItem;
+        this.currentTarget = newTarget;
 
         for (Map.Entry<LanguageService.Language, ServerBossEvent> entry : bossBars.entrySet()) {
             ServerBossEvent bar = entry.getValue();
 
-            Component title = Component.translatable(newItem.getDescriptionId()).withStyle(ChatFormatting.GREEN);
+            Component title = newTarget.describe(entry.getKey()).withStyle(ChatFormatting.GREEN);
 
             bar.setName(title);
             bar.setProgress(0.0f);
@@ -3,7 +3,9 @@ package net.dagger.lootrush.service;
 import com.mojang.logging.LogUtils;
 import net.minecraft.core.Holder;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.Identifier;
+import net.minecraft.tags.TagKey;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.Items;
 import org.slf4j.Logger;
@@ -16,9 +18,11 @@ import java.util.stream.StreamSupport;
 public class ItemService {
     private static final Logger LOGGER = LogUtils.getLogger();
     private final List<Item> itemPool;
+    private final RoundSettings roundSettings;
     private final Random random = new Random();
 
-    public ItemService(List<String> bannedItems) {
+    public ItemService(List<String> bannedItems, RoundSettings roundSettings) {
+        this.roundSettings = roundSettings;
         Set<Item> bannedMaterials = new HashSet<>();
         List<Pattern> bannedPatterns = new ArrayList<>();
 
@@ -58,6 +62,55 @@ public class ItemService {
         return itemPool.get(random.nextInt(itemPool.size()));
     }
 
+    public RoundTarget pickRoundTarget() {
+        if (roundSettings.mode() == RoundTarget.Mode.ANY) {
+            List<String> sets = new ArrayList<>(roundSettings.itemSets());
+            Collections.shuffle(sets, random);
+            for (String set : sets) {
+                List<Item> items = resolveItemSet(set);
+                if (!items.isEmpty()) {
+                    return RoundTarget.anyOf(items);
+                }
+            }
+            LOGGER.warn("No usable entries in round-item-sets, falling back to a single item");
+        } else if (roundSettings.mode() == RoundTarget.Mode.COLLECT && itemPool.size() > 1) {
+            List<Item> shuffled = new ArrayList<>(itemPool);
+            Collections.shuffle(shuffled, random);
+            int count = Math.max(1, Math.min(roundSettings.targetCount(), shuffled.size()));
+            return RoundTarget.collect(shuffled.subList(0, count), roundSettings.required());
+        }
+        return RoundTarget.single(pickRandomItem());
+    }
+
+    private List<Item> resolveItemSet(String set) {
+        List<Item> items = new ArrayList<>();
+        String trimmed = set.trim();
+        try {
+            if (trimmed.startsWith("#")) {
+                TagKey<Item> tag = TagKey.create(Registries.ITEM, Identifier.parse(trimmed.substring(1).toLowerCase(Locale.ROOT)));
+                for (Holder<Item> holder : BuiltInRegistries.ITEM.getTagOrEmpty(tag)) {
+                    if (itemPool.contains(holder.value())) {
+                        items.add(holder.value());
+                    }
+                }
+                if (items.isEmpty()) {
+                    LOGGER.warn("Unknown or empty item tag in round-item-sets: " + set);
+                }
+                return items;
+            }
+
+            for (String name : trimmed.split(",")) {
+                BuiltInRegistries.ITEM.get(Identifier.parse(name.trim().toLowerCase(Locale.ROOT)))
+                        .map(Holder.Reference::value)
+                        .filter(itemPool::contains)
+                        .ifPresent(items::add);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Invalid entry in round-item-sets: " + set);
+        }
+        return items;
+    }
+
     public boolean isItemInPool(Item item) {
         return itemPool.contains(item);
     }
@@ -2,14 +2,21 @@ package net.dagger.lootrush.service;
 
 import net.minecraft.server.level.ServerPlayer;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public class LivesService {
     private static final int MAX_LIVES = 5;
     private final Map<UUID, Integer> playerLives = new HashMap<>();
+    private Consumer<LivesChange> listener = change -> {};
+
+    public void setListener(Consumer<LivesChange> listener) {
+        this.listener = listener;
+    }
 
     public void initializeLives(List<ServerPlayer> participants) {
         playerLives.clear();
@@ -23,9 +30,10 @@ public class LivesService {
     }
 
     public int decreaseLives(ServerPlayer player) {
-        int lives = getLives(player);
-        lives--;
+        int oldLives = getLives(player);
+        int lives = oldLives - 1;
         playerLives.put(player.getUUID(), lives);
+        listener.accept(new LivesChange(player.getUUID(), player.getScoreboardName(), oldLives, lives));
         return lives;
     }
 
@@ -42,10 +50,13 @@ public class LivesService {
     }
 
     public Map<UUID, Integer> getAllLives() {
-        return new HashMap<>(playerLives);
+        return Collections.unmodifiableMap(playerLives);
     }
 
     public static int getMaxLives() {
         return MAX_LIVES;
     }
+
+    public record LivesChange(UUID playerId, String playerName, int oldLives, int newLives) {
+    }
 }
@@ -0,0 +1,305 @@
+package net.dagger.lootrush.service;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+public class LocationProbeService {
+    private static final Set<Block> UNSAFE_FLOOR_BLOCKS = Set.of(
+            Blocks.LAVA,
+            Blocks.WATER,
+            Blocks.KELP,
+            Blocks.KELP_PLANT,
+            Blocks.SEAGRASS,
+            Blocks.TALL_SEAGRASS,
+            Blocks.BUBBLE_COLUMN,
+            Blocks.CACTUS,
+            Blocks.MAGMA_BLOCK,
+            Blocks.CAMPFIRE,
+            Blocks.SOUL_CAMPFIRE,
+            Blocks.FIRE,
+            Blocks.SOUL_FIRE,
+            Blocks.POWDER_SNOW,
+            Blocks.SWEET_BERRY_BUSH,
+            Blocks.COBWEB,
+            Blocks.WITHER_ROSE
+    );
+
+    private final ProbeIndexService probeIndexService;
+    private final BiomeFilterService biomeFilterService;
+    private final int minScatterCoord;
+    private final int maxScatterCoord;
+    private final int sampleStep;
+    private final Random random = new Random();
+    private final ExecutorService evaluationExecutor;
+
+    public LocationProbeService(ProbeIndexService probeIndexService, BiomeFilterService biomeFilterService, ScatterSettings settings) {
+        this.probeIndexService = probeIndexService;
+        this.biomeFilterService = biomeFilterService;
+        this.minScatterCoord = settings.minScatterCoord();
+        this.maxScatterCoord = settings.maxScatterCoord();
+        this.sampleStep = Math.min(16, Math.max(0, settings.sampleStep()));
+        this.evaluationExecutor = Executors.newFixedThreadPool(Math.max(1, Math.min(4, settings.searchConcurrency())), runnable -> {
+            Thread thread = new Thread(runnable, "LootRush-Probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void shutdown() {
+        evaluationExecutor.shutdownNow();
+    }
+
+    public CompletableFuture<ProbeResult> probe(ServerLevel level, int x, int z, boolean preload) {
+        if (!biomeFilterService.isAllowed(level, x, z)) {
+            return CompletableFuture.completedFuture(new ProbeResult(Verdict.BIOME_EXCLUDED, x, z, 0, null, null, null));
+        }
+
+        ProbeIndexService.Entry known = probeIndexService.lookup(level, x, z, sampleStep);
+        if (known != null && known.verdict() != Verdict.SAFE) {
+            return CompletableFuture.completedFuture(new ProbeResult(known.verdict(), known.x(), known.z(), known.floorY(), null, null, null));
+        }
+
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        CompletableFuture<ProbeResult> result = new CompletableFuture<>();
+        loadSurfaceChunk(level, chunkX, chunkZ).whenComplete((surfaceChunk, surfaceError) -> {
+            if (surfaceError != null) {
+                result.completeExceptionally(surfaceError);
+                return;
+            }
+            int minY = level.getMinY();
+            CompletableFuture.supplyAsync(() -> findSafeColumn(x, z, (columnX, columnZ) -> evaluateSurface(minY, surfaceChunk, columnX, columnZ)),
+                    evaluationExecutor).whenComplete((surface, evaluationError) -> level.getServer().execute(() -> {
+                if (result.isDone()) {
+                    return;
+                }
+                if (evaluationError != null) {
+                    result.completeExceptionally(evaluationError);
+                    return;
+                }
+                if (!surface.isSafe()) {
+                    probeIndexService.record(level, surface, sampleStep);
+                    result.complete(surface);
+                    return;
+                }
+                if (!preload) {
+                    result.complete(surface);
+                    return;
+                }
+                preloadSurroundingChunks(level, chunkX, chunkZ)
+                        .whenComplete((ignored, throwable) -> level.getServer().execute(() -> {
+                            if (result.isDone()) {
+                                return;
+                            }
+                            if (throwable != null) {
+                                result.completeExceptionally(throwable);
+                                return;
+                            }
+                            ProbeResult probed = findSafeColumn(surface.x(), surface.z(), (columnX, columnZ) -> evaluateColumn(level, columnX, columnZ));
+                            probeIndexService.record(level, probed, sampleStep);
+                            result.complete(probed);
+                        }));
+            }));
+        });
+        return result;
+    }
+
+    public CompletableFuture<ChunkAccess> loadChunk(ServerLevel level, int chunkX, int chunkZ) {
+        CompletableFuture<ChunkAccess> resultFuture = new CompletableFuture<>();
+        MinecraftServer server = level.getServer();
+        ChunkPos pos = new ChunkPos(chunkX, chunkZ);
+
+        server.execute(() -> {
+            CompletableFuture<?> ticketFuture = level.getChunkSource().addTicketAndLoadWithRadius(TicketType.FORCED, pos, 1);
+            ticketFuture.whenComplete((ignored, ticketError) -> {
+                if (ticketError != null) {
+                    resultFuture.completeExceptionally(ticketError);
+                    return;
+                }
+                CompletableFuture<ChunkAccess> chunkFuture = level.getChunkSource()
+                        .getChunkFuture(chunkX, chunkZ, ChunkStatus.FULL, true)
+                        .thenApply(result -> {
+                            ChunkAccess chunk = result.orElse(null);
+                            if (chunk == null) {
+                                String error = result.getError() == null ? "unknown" : result.getError();
+                                throw new IllegalStateException("Chunk load failed: " + error);
+                            }
+                            return chunk;
+                        });
+
+                chunkFuture.whenComplete((chunk, throwable) -> {
+                    level.getChunkSource().removeTicketWithRadius(TicketType.FORCED, pos, 1);
+                    if (throwable != null) {
+                        resultFuture.completeExceptionally(throwable);
+                        return;
+                    }
+                    resultFuture.complete(chunk);
+                });
+            });
+        });
+
+        return resultFuture;
+    }
+
+    private CompletableFuture<ChunkAccess> loadSurfaceChunk(ServerLevel level, int chunkX, int chunkZ) {
+        CompletableFuture<ChunkAccess> resultFuture = new CompletableFuture<>();
+        ChunkPos pos = new ChunkPos(chunkX, chunkZ);
+        level.getServer().execute(() -> {
+            level.getChunkSource().addTicketWithRadius(TicketType.FORCED, pos, 0);
+            level.getChunkSource()
+                    .getChunkFuture(chunkX, chunkZ, ChunkStatus.SURFACE, true)
+                    .whenComplete((result, throwable) -> {
+                        level.getChunkSource().removeTicketWithRadius(TicketType.FORCED, pos, 0);
+                        if (throwable != null) {
+                            resultFuture.completeExceptionally(throwable);
+                            return;
+                        }
+                        ChunkAccess chunk = result.orElse(null);
+                        if (chunk == null) {
+                            String error = result.getError() == null ? "unknown" : result.getError();
+                            resultFuture.completeExceptionally(new IllegalStateException("Chunk load failed: " + error));
+                            return;
+                        }
+                        resultFuture.complete(chunk);
+                    });
+        });
+        return resultFuture;
+    }
+
+    public CompletableFuture<Void> preloadSurroundingChunks(ServerLevel level, int chunkX, int chunkZ) {
+        List<CompletableFuture<ChunkAccess>> futures = new ArrayList<>();
+        for (int dx = -2; dx <= 2; dx++) {
+            for (int dz = -2; dz <= 2; dz++) {
+                futures.add(loadChunk(level, chunkX + dx, chunkZ + dz));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    public int getMinScatterCoord() {
+        return minScatterCoord;
+    }
+
+    public int getMaxScatterCoord() {
+        return maxScatterCoord;
+    }
+
+    public int randomScatterCoordinate() {
+        int range = maxScatterCoord - minScatterCoord;
+        if (range <= 0) range = 1;
+        int base = minScatterCoord + random.nextInt(range + 1);
+        return random.nextBoolean() ? base : -base;
+    }
+
+    private ProbeResult findSafeColumn(int x, int z, BiFunction<Integer, Integer, ProbeResult> evaluator) {
+        ProbeResult candidate = evaluator.apply(x, z);
+        if (candidate.isSafe() || sampleStep == 0) {
+            return candidate;
+        }
+
+        int baseX = x & ~15;
+        int baseZ = z & ~15;
+        ProbeResult best = null;
+        long bestDistanceSq = Long.MAX_VALUE;
+        for (int localX = sampleStep / 2; localX < 16; localX += sampleStep) {
+            for (int localZ = sampleStep / 2; localZ < 16; localZ += sampleStep) {
+                int columnX = baseX + localX;
+                int columnZ = baseZ + localZ;
+                long dx = columnX - x;
+                long dz = columnZ - z;
+                long distanceSq = dx * dx + dz * dz;
+                if (distanceSq == 0 || distanceSq >= bestDistanceSq) {
+                    continue;
+                }
+                ProbeResult sampled = evaluator.apply(columnX, columnZ);
+                if (sampled.isSafe()) {
+                    best = sampled;
+                    bestDistanceSq = distanceSq;
+                }
+            }
+        }
+        return best != null ? best : candidate;
+    }
+
+    private ProbeResult evaluateSurface(int minY, ChunkAccess chunk, int x, int z) {
+        int floorY = chunk.getHeight(Heightmap.Types.WORLD_SURFACE_WG, x & 15, z & 15);
+        if (floorY < minY) {
+            return new ProbeResult(Verdict.Y_TOO_LOW, x, z, floorY, null, null, null);
+        }
+
+        BlockPos floorPos = new BlockPos(x, floorY, z);
+        BlockPos feetPos = floorPos.above();
+        BlockPos headPos = floorPos.above(2);
+
+        BlockState floor = chunk.getBlockState(floorPos);
+        BlockState feet = chunk.getBlockState(feetPos);
+        BlockState head = chunk.getBlockState(headPos);
+
+        Verdict verdict = isSafeFloor(floor) && isPassable(chunk, feetPos) && isPassable(chunk, headPos) ? Verdict.SAFE : Verdict.UNSAFE_BLOCKS;
+        return new ProbeResult(verdict, x, z, floorY, floor, feet, head);
+    }
+
+    private ProbeResult evaluateColumn(ServerLevel level, int x, int z) {
+        int topY = level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x, z);
+        int floorY = topY - 1;
+        if (floorY < level.getMinY()) {
+            return new ProbeResult(Verdict.Y_TOO_LOW, x, z, floorY, null, null, null);
+        }
+
+        BlockPos floorPos = new BlockPos(x, floorY, z);
+        BlockPos feetPos = floorPos.above();
+        BlockPos headPos = floorPos.above(2);
+
+        BlockState floor = level.getBlockState(floorPos);
+        BlockState feet = level.getBlockState(feetPos);
+        BlockState head = level.getBlockState(headPos);
+
+        Verdict verdict = isSafeFloor(floor) && isPassable(level, feetPos) && isPassable(level, headPos) ? Verdict.SAFE : Verdict.UNSAFE_BLOCKS;
+        return new ProbeResult(verdict, x, z, floorY, floor, feet, head);
+    }
+
+    private boolean isSafeFloor(BlockState state) {
+        return state.isSolidRender() && !UNSAFE_FLOOR_BLOCKS.contains(state.getBlock());
+    }
+
+    private boolean isPassable(BlockGetter level, BlockPos pos) {
+        BlockState state = level.getBlockState(pos);
+        return state.isAir() || state.getCollisionShape(level, pos).isEmpty();
+    }
+
+    public enum Verdict {
+        SAFE,
+        UNSAFE_BLOCKS,
+        Y_TOO_LOW,
+        BIOME_EXCLUDED
+    }
+
+    public record ProbeResult(Verdict verdict, int x, int z, int floorY, BlockState floor, BlockState feet, BlockState head) {
+        public boolean isSafe() {
+            return verdict == Verdict.SAFE;
+        }
+
+        public BlockPos feetPos() {
+            return new BlockPos(x, floorY + 1, z);
+        }
+    }
+}
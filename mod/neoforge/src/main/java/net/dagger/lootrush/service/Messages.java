@@ -4,41 +4,38 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class Messages {
     public static Component get(LanguageService.Language lang, MessageKey key, Object... args) {
-        String message = getStringPrivate(lang, key, args);
-        ChatFormatting color = getColor(key);
-        return Component.literal(message).withStyle(color);
+        if (args.length == 0 && key.isConstant(lang)) {
+            return key.components[lang.ordinal()];
+        }
+        return Component.literal(getString(lang, key, args)).withStyle(key.defaultColor);
     }
 
     public static Component get(LanguageService.Language lang, MessageKey key, ChatFormatting color, Object... args) {
-        String message = getStringPrivate(lang, key, args);
-        return Component.literal(message).withStyle(color);
+        if (args.length == 0 && key.isConstant(lang) && color == key.defaultColor) {
+            return key.components[lang.ordinal()];
+        }
+        return Component.literal(getString(lang, key, args)).withStyle(color);
     }
 
     public static String getString(LanguageService.Language lang, MessageKey key, Object... args) {
-        String template;
+        return key.templates[lang.ordinal()].render(args);
+    }
+
+    private static String getTemplate(LanguageService.Language lang, MessageKey key) {
         switch (lang) {
             case EN:
-                template = key.english;
-                break;
+                return key.english;
             case UK:
-                template = key.ukrainian;
-                break;
+                return key.ukrainian;
             case RU:
             default:
-                template = key.russian;
-                break;
+                return key.russian;
         }
-        return String.format(template, args);
-    }
-
-    private static String getStringPrivate(LanguageService.Language lang, MessageKey key, Object... args) {
-        return getString(lang, key, args);
-    }
-
-    private static ChatFormatting getColor(MessageKey key) {
-        return key.defaultColor;
     }
 
     public enum MessageKey {
@@ -60,6 +57,8 @@ public class Messages {
         GAME_NOT_STARTED("Мини-игра не запущена.", "The minigame is not started.", "Міні-гру не запущено.", ChatFormatting.GREEN),
         COUNTDOWN_IN_PROGRESS("Идёт отсчёт. Цель: ", "Countdown in progress. Target: ", "Триває відлік. Ціль: ", ChatFormatting.YELLOW),
         GAME_ACTIVE("Игра активна! Цель: ", "Game active! Target: ", "Гра активна! Ціль: ", ChatFormatting.AQUA),
+        TARGET_ANY_OF("любой из: ", "any of: ", "будь-який з: ", ChatFormatting.AQUA),
+        TARGET_COLLECT("%d из %d: ", "%d of %d: ", "%d з %d: ", ChatFormatting.AQUA),
         NO_PERMISSION_ROLE("Недостаточно прав для изменения ролей.", "Insufficient permissions to change roles.", "Недостатньо прав для зміни ролей.", ChatFormatting.RED),
         ROLE_USAGE("Использование: /lootrush role <player|spectator> [ник|селектор]", "Usage: /lootrush role <player|spectator> [player|selector]", "Використання: /lootrush role <player|spectator> [нік|селектор]", ChatFormatting.YELLOW),
         UNKNOWN_ROLE("Неизвестная роль. Доступно: player, spectator.", "Unknown role. Available: player, spectator.", "Невідома роль. Доступно: player, spectator.", ChatFormatting.RED),
@@ -85,8 +84,10 @@ public class Messages {
         LOCATION_FOUND("Нашли место для %s: %s", "Found location for %s: %s", "Знайшли місце для %s: %s", ChatFormatting.GREEN),
         ATTEMPT_TOO_CLOSE("Попытка #%d для %s: (%d, ???, %d) слишком близко к другим игрокам", "Attempt #%d for %s: (%d, ???, %d) too close to other players", "Спроба #%d для %s: (%d, ???, %d) занадто близько до інших гравців", ChatFormatting.GRAY),
         ATTEMPT_Y_TOO_LOW("Попытка #%d для %s: (%d, %d) отклонена — Y ниже минимума", "Attempt #%d for %s: (%d, %d) rejected — Y below minimum", "Спроба #%d для %s: (%d, %d) відхилена — Y нижче мінімуму", ChatFormatting.GRAY),
+        ATTEMPT_BIOME_EXCLUDED("Попытка #%d для %s: (%d, %d) отклонена — биом исключён", "Attempt #%d for %s: (%d, %d) rejected — biome excluded", "Спроба #%d для %s: (%d, %d) відхилена — біом виключено", ChatFormatting.GRAY),
         ATTEMPT_LOCATION_FOUND("Попытка #%d для %s: найдена точка (%d, %d, %d)", "Attempt #%d for %s: found location (%d, %d, %d)", "Спроба #%d для %s: знайдена точка (%d, %d, %d)", ChatFormatting.GREEN),
         ATTEMPT_UNSAFE_BLOCKS("Попытка #%d для %s: (%d, %d, %d) отклонена — блоки небезопасны (floor=%s, feet=%s, head=%s)", "Attempt #%d for %s: (%d, %d, %d) rejected — blocks unsafe (floor=%s, feet=%s, head=%s)", "Спроба #%d для %s: (%d, %d, %d) відхилена — блоки небезпечні (floor=%s, feet=%s, head=%s)", ChatFormatting.GRAY),
+        PROBE_SUMMARY("Поиск точек: отклонено %d (близко: %d, низко: %d, небезопасно: %d, биом: %d, ошибки чанков: %d)", "Location search: %d rejected (too close: %d, too low: %d, unsafe: %d, biome: %d, chunk errors: %d)", "Пошук точок: відхилено %d (близько: %d, низько: %d, небезпечно: %d, біом: %d, помилки чанків: %d)", ChatFormatting.GRAY),
         LOADING_NEAR_CHUNKS("Загружаем ближние чанки: ", "Loading nearby chunks: ", "Завантажуємо ближні чанки: ", ChatFormatting.YELLOW),
         CHUNKS_TEXT(" чанков...", " chunks...", " чанків...", ChatFormatting.YELLOW),
         CHUNK_LOADED("Загружен чанк ", "Loaded chunk ", "Завантажено чанк ", ChatFormatting.GRAY),
@@ -120,12 +121,17 @@ public class Messages {
         RETURNING_TO_SPAWN("Возвращаем на спавн и очищаем инвентарь после раунда.", "Returning to spawn and clearing inventory after the round.", "Повертаємо на спавн і очищаємо інвентар після раунду.", ChatFormatting.GRAY),
         DEBUG_ENABLED("Режим отладки включён.", "Debug mode enabled.", "Режим відладки увімкнено.", ChatFormatting.GREEN),
         DEBUG_DISABLED("Режим отладки выключен.", "Debug mode disabled.", "Режим відладки вимкнено.", ChatFormatting.YELLOW),
+        DEBUG_TICKETS("Закреплено чанков: %d (миров: %d), примерно %d МБ памяти.", "Pinned chunks: %d (worlds: %d), about %d MB of memory.", "Закріплено чанків: %d (світів: %d), приблизно %d МБ пам'яті.", ChatFormatting.GRAY),
+        DEBUG_DUMP_HEADER("Последние события поиска точек (%d):", "Recent location search events (%d):", "Останні події пошуку точок (%d):", ChatFormatting.GRAY),
+        DEBUG_DUMP_EMPTY("Событий поиска точек пока нет.", "No location search events yet.", "Подій пошуку точок поки немає.", ChatFormatting.GRAY),
         BOSS_BAR_TARGET_ITEM("Найти: ", "Find: ", "Знайти: ", ChatFormatting.WHITE);
 
         private final String russian;
         private final String english;
         private final String ukrainian;
         private final ChatFormatting defaultColor;
+        private Template[] templates;
+        private Component[] components;
 
         MessageKey(String russian, String english, String ukrainian, ChatFormatting defaultColor) {
             this.russian = russian;
@@ -133,5 +139,82 @@ public class Messages {
             this.ukrainian = ukrainian;
             this.defaultColor = defaultColor;
         }
+
+        private boolean isConstant(LanguageService.Language lang) {
+            return templates[lang.ordinal()].isConstant();
+        }
+
+        static {
+            LanguageService.Language[] languages = LanguageService.Language.values();
+            for (MessageKey key : values()) {
+                key.templates = new Template[languages.length];
+                key.components = new Component[languages.length];
+                for (LanguageService.Language lang : languages) {
+                    Template template = Template.compile(getTemplate(lang, key));
+                    key.templates[lang.ordinal()] = template;
+                    if (template.isConstant()) {
+                        key.components[lang.ordinal()] = Component.literal(template.render(new Object[0])).withStyle(key.defaultColor);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Template {
+        private final String[] literals;
+        private final int length;
+
+        private Template(String[] literals) {
+            this.literals = literals;
+            int total = 0;
+            for (String literal : literals) {
+                total += literal.length();
+            }
+            this.length = total;
+        }
+
+        static Template compile(String pattern) {
+            List<String> literals = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c == '%' && i + 1 < pattern.length()) {
+                    char next = pattern.charAt(i + 1);
+                    if (next == '%') {
+                        current.append('%');
+                        i++;
+                        continue;
+                    }
+                    if (next == 'd' || next == 's') {
+                        literals.add(current.toString());
+                        current.setLength(0);
+                        i++;
+                        continue;
+                    }
+                }
+                current.append(c);
+            }
+            literals.add(current.toString());
+            return new Template(literals.toArray(new String[0]));
+        }
+
+        boolean isConstant() {
+            return literals.length == 1;
+        }
+
+        String render(Object[] args) {
+            if (literals.length == 1) {
+                return literals[0];
+            }
+            StringBuilder builder = new StringBuilder(length + 8 * literals.length);
+            builder.append(literals[0]);
+            for (int i = 1; i < literals.length; i++) {
+                if (i <= args.length) {
+                    builder.append(args[i - 1]);
+                }
+                builder.append(literals[i]);
+            }
+            return builder.toString();
+        }
     }
 }
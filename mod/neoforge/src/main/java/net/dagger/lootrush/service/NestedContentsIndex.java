@@ -0,0 +1,112 @@
+package net.dagger.lootrush.service;
+
+import net.minecraft.core.NonNullList;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.BundleContents;
+import net.minecraft.world.item.component.ItemContainerContents;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class NestedContentsIndex {
+    private static final int MAX_ENTRIES = 512;
+    private static final int MAX_DEPTH = 4;
+    private static final int CONTAINER_SLOTS = 27;
+    private static final BitSet EMPTY = new BitSet();
+
+    private final Map<Object, BitSet> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, BitSet> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public static boolean isContainer(ItemStack stack) {
+        return !stack.isEmpty() && (stack.has(DataComponents.CONTAINER) || stack.has(DataComponents.BUNDLE_CONTENTS));
+    }
+
+    public BitSet contents(ItemStack stack) {
+        return contents(stack, 0);
+    }
+
+    private BitSet contents(ItemStack stack, int depth) {
+        Object key = componentOf(stack);
+        if (key == null || depth >= MAX_DEPTH) {
+            return EMPTY;
+        }
+        BitSet cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        BitSet contents = new BitSet();
+        for (ItemStack item : itemsOf(key)) {
+            if (item.isEmpty()) {
+                continue;
+            }
+            contents.set(BuiltInRegistries.ITEM.getId(item.getItem()));
+            if (isContainer(item)) {
+                contents.or(contents(item, depth + 1));
+            }
+        }
+        cache.put(key, contents);
+        return contents;
+    }
+
+    public boolean removeNested(ItemStack stack, RoundTarget target) {
+        if (!isContainer(stack) || !target.intersects(contents(stack))) {
+            return false;
+        }
+        ItemContainerContents container = stack.get(DataComponents.CONTAINER);
+        if (container != null) {
+            NonNullList<ItemStack> items = NonNullList.withSize(CONTAINER_SLOTS, ItemStack.EMPTY);
+            container.copyInto(items);
+            for (int i = 0; i < items.size(); i++) {
+                ItemStack item = items.get(i);
+                if (target.contains(item)) {
+                    items.set(i, ItemStack.EMPTY);
+                } else {
+                    removeNested(item, target);
+                }
+            }
+            stack.set(DataComponents.CONTAINER, ItemContainerContents.fromItems(items));
+            return true;
+        }
+        BundleContents bundle = stack.get(DataComponents.BUNDLE_CONTENTS);
+        if (bundle != null) {
+            List<ItemStack> kept = new ArrayList<>();
+            for (ItemStack item : bundle.items()) {
+                if (!target.contains(item)) {
+                    ItemStack copy = item.copy();
+                    removeNested(copy, target);
+                    kept.add(copy);
+                }
+            }
+            stack.set(DataComponents.BUNDLE_CONTENTS, new BundleContents(kept));
+            return true;
+        }
+        return false;
+    }
+
+    private static Object componentOf(ItemStack stack) {
+        if (stack.isEmpty()) {
+            return null;
+        }
+        ItemContainerContents container = stack.get(DataComponents.CONTAINER);
+        if (container != null) {
+            return container;
+        }
+        return stack.get(DataComponents.BUNDLE_CONTENTS);
+    }
+
+    private static Iterable<ItemStack> itemsOf(Object component) {
+        if (component instanceof ItemContainerContents container) {
+            return container.nonEmptyItems();
+        }
+        return ((BundleContents) component).items();
+    }
+}
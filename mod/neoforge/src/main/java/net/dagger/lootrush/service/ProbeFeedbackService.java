@@ -0,0 +1,79 @@
+package net.dagger.lootrush.service;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class ProbeFeedbackService {
+    private static final int HISTORY_SIZE = 256;
+
+    private final LanguageService languageService;
+    private final Map<Messages.MessageKey, Integer> counts = new EnumMap<>(Messages.MessageKey.class);
+    private final Deque<Entry> history = new ArrayDeque<>();
+    private List<ServerPlayer> audience = List.of();
+
+    public ProbeFeedbackService(LanguageService languageService) {
+        this.languageService = languageService;
+    }
+
+    public synchronized void open(List<ServerPlayer> participants) {
+        counts.clear();
+        history.clear();
+        audience = new ArrayList<>(participants);
+    }
+
+    public synchronized void record(Messages.MessageKey key, Object... args) {
+        if (key != Messages.MessageKey.ATTEMPT_LOCATION_FOUND) {
+            counts.merge(key, 1, Integer::sum);
+        }
+        if (history.size() >= HISTORY_SIZE) {
+            history.pollFirst();
+        }
+        history.addLast(new Entry(key, args));
+    }
+
+    public synchronized List<Entry> getHistory() {
+        return new ArrayList<>(history);
+    }
+
+    public void tick() {
+        int tooClose;
+        int yTooLow;
+        int unsafe;
+        int biome;
+        int errors;
+        List<ServerPlayer> recipients;
+        synchronized (this) {
+            if (counts.isEmpty()) {
+                return;
+            }
+            tooClose = counts.getOrDefault(Messages.MessageKey.ATTEMPT_TOO_CLOSE, 0);
+            yTooLow = counts.getOrDefault(Messages.MessageKey.ATTEMPT_Y_TOO_LOW, 0);
+            unsafe = counts.getOrDefault(Messages.MessageKey.ATTEMPT_UNSAFE_BLOCKS, 0);
+            biome = counts.getOrDefault(Messages.MessageKey.ATTEMPT_BIOME_EXCLUDED, 0);
+            errors = counts.getOrDefault(Messages.MessageKey.CHUNK_LOAD_ERROR, 0);
+            counts.clear();
+            recipients = audience;
+        }
+
+        int total = tooClose + yTooLow + unsafe + biome + errors;
+        Map<LanguageService.Language, Component> summaries = new EnumMap<>(LanguageService.Language.class);
+        for (ServerPlayer participant : recipients) {
+            if (participant == null || participant.isRemoved()) {
+                continue;
+            }
+            Component summary = summaries.computeIfAbsent(languageService.getLanguage(participant),
+                    lang -> Messages.get(lang, Messages.MessageKey.PROBE_SUMMARY, total, tooClose, yTooLow, unsafe, biome, errors));
+            participant.sendSystemMessage(summary);
+        }
+    }
+
+    public record Entry(Messages.MessageKey key, Object[] args) {
+    }
+}
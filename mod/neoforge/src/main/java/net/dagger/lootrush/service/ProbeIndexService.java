@@ -0,0 +1,182 @@
+package net.dagger.lootrush.service;
+
+import net.dagger.lootrush.LootRush;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ProbeIndexService {
+    private static final int MAGIC = 0x4C525049;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 12;
+    private static final int MAX_CHUNK_WIDE_STEP = 8;
+
+    private final Map<String, WorldIndex> indexes = new ConcurrentHashMap<>();
+    private Path directory;
+
+    public void load(MinecraftServer server) {
+        directory = server.getWorldPath(LevelResource.ROOT).resolve(LootRush.MODID).resolve("probe-index");
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.bin")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    indexes.put(name.substring(0, name.length() - 4), read(file));
+                } catch (IOException | RuntimeException e) {
+                    LootRush.LOGGER.warn("Не удалось прочитать индекс проверенных точек {}: {}", name, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            LootRush.LOGGER.warn("Не удалось открыть папку индекса проверенных точек: {}", e.getMessage());
+        }
+    }
+
+    public Entry lookup(ServerLevel level, int x, int z, int sampleStep) {
+        Entry entry = indexFor(level).entries.get(chunkKey(x >> 4, z >> 4));
+        if (entry == null || entry.verdict() == LocationProbeService.Verdict.SAFE || entry.x() == x && entry.z() == z) {
+            return entry;
+        }
+        return entry.sampleStep() > 0 && entry.sampleStep() <= Math.min(sampleStep, MAX_CHUNK_WIDE_STEP) ? entry : null;
+    }
+
+    public void record(ServerLevel level, LocationProbeService.ProbeResult result, int sampleStep) {
+        WorldIndex index = indexFor(level);
+        long key = chunkKey(result.x() >> 4, result.z() >> 4);
+        Entry entry = new Entry(result.x(), result.z(), result.verdict(), result.floorY(), result.isSafe() ? 0 : sampleStep);
+        Entry previous = index.entries.get(key);
+        if (previous != null && previous.verdict() == LocationProbeService.Verdict.SAFE && !result.isSafe()) {
+            return;
+        }
+        previous = index.entries.put(key, entry);
+        if (entry.equals(previous)) {
+            return;
+        }
+        synchronized (index) {
+            index.pending.add(entry);
+        }
+    }
+
+    public List<BlockPos> safeLocations(ServerLevel level) {
+        List<BlockPos> locations = new ArrayList<>();
+        for (Entry entry : indexFor(level).entries.values()) {
+            if (entry.verdict() == LocationProbeService.Verdict.SAFE) {
+                locations.add(new BlockPos(entry.x(), entry.floorY() + 1, entry.z()));
+            }
+        }
+        return locations;
+    }
+
+    public void flush() {
+        if (directory == null) {
+            return;
+        }
+        for (Map.Entry<String, WorldIndex> entry : indexes.entrySet()) {
+            try {
+                flush(directory.resolve(entry.getKey() + ".bin"), entry.getValue());
+            } catch (IOException e) {
+                LootRush.LOGGER.warn("Не удалось сохранить индекс проверенных точек {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private WorldIndex indexFor(ServerLevel level) {
+        String key = level.getSeed() + "-" + level.dimension().identifier().toString().replace(':', '_');
+        return indexes.computeIfAbsent(key, id -> new WorldIndex(level.getSeed()));
+    }
+
+    private WorldIndex read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("unknown file format");
+            }
+
+            WorldIndex index = new WorldIndex(buffer.getLong());
+            LocationProbeService.Verdict[] verdicts = LocationProbeService.Verdict.values();
+            int records = 0;
+            while (buffer.remaining() >= RECORD_SIZE) {
+                int x = buffer.getInt();
+                int z = buffer.getInt();
+                int floorY = buffer.getShort();
+                int verdict = buffer.get();
+                int sampleStep = buffer.get();
+                records++;
+                if (verdict < 0 || verdict >= verdicts.length) {
+                    continue;
+                }
+                index.entries.put(chunkKey(x >> 4, z >> 4), new Entry(x, z, verdicts[verdict], floorY, sampleStep));
+            }
+            index.stored = true;
+            index.rewrite = records > index.entries.size() * 2;
+            return index;
+        }
+    }
+
+    private void flush(Path file, WorldIndex index) throws IOException {
+        List<Entry> toWrite;
+        boolean rewrite;
+        synchronized (index) {
+            rewrite = index.rewrite || !index.stored;
+            if (!rewrite && index.pending.isEmpty()) {
+                return;
+            }
+            toWrite = rewrite ? new ArrayList<>(index.entries.values()) : new ArrayList<>(index.pending);
+            index.pending.clear();
+            index.rewrite = false;
+            index.stored = true;
+        }
+
+        Files.createDirectories(file.getParent());
+        ByteBuffer buffer = ByteBuffer.allocate((rewrite ? HEADER_SIZE : 0) + toWrite.size() * RECORD_SIZE);
+        if (rewrite) {
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(index.seed);
+        }
+        for (Entry entry : toWrite) {
+            buffer.putInt(entry.x()).putInt(entry.z()).putShort((short) entry.floorY()).put((byte) entry.verdict().ordinal()).put((byte) entry.sampleStep());
+        }
+        buffer.flip();
+
+        StandardOpenOption mode = rewrite ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    public record Entry(int x, int z, LocationProbeService.Verdict verdict, int floorY, int sampleStep) {
+    }
+
+    private static final class WorldIndex {
+        private final long seed;
+        private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        private final List<Entry> pending = new ArrayList<>();
+        private boolean stored = false;
+        private boolean rewrite = false;
+
+        private WorldIndex(long seed) {
+            this.seed = seed;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package net.dagger.lootrush.service;
+
+import java.util.List;
+
+public record RoundSettings(RoundTarget.Mode mode, int targetCount, int required, List<String> itemSets, boolean countNested) {
+}
@@ -0,0 +1,107 @@
+package net.dagger.lootrush.service;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import java.util.BitSet;
+import java.util.List;
+
+public final class RoundTarget {
+    private static final int DESCRIBE_LIMIT = 5;
+
+    public enum Mode {
+        SINGLE,
+        ANY,
+        COLLECT
+    }
+
+    private final Mode mode;
+    private final List<Item> items;
+    private final BitSet members = new BitSet();
+    private final int required;
+
+    private RoundTarget(Mode mode, List<Item> items, int required) {
+        this.mode = mode;
+        this.items = List.copyOf(items);
+        this.required = required;
+        for (Item item : this.items) {
+            members.set(BuiltInRegistries.ITEM.getId(item));
+        }
+    }
+
+    public static RoundTarget single(Item item) {
+        return new RoundTarget(Mode.SINGLE, List.of(item), 1);
+    }
+
+    public static RoundTarget anyOf(List<Item> items) {
+        return new RoundTarget(Mode.ANY, items, 1);
+    }
+
+    public static RoundTarget collect(List<Item> items, int required) {
+        return new RoundTarget(Mode.COLLECT, items, Math.max(1, Math.min(required, items.size())));
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public Item getDisplayItem() {
+        return items.get(0);
+    }
+
+    public int getRequired() {
+        return required;
+    }
+
+    public boolean contains(Item item) {
+        return item != null && members.get(BuiltInRegistries.ITEM.getId(item));
+    }
+
+    public boolean contains(ItemStack stack) {
+        return !stack.isEmpty() && contains(stack.getItem());
+    }
+
+    public boolean intersects(BitSet held) {
+        return held.intersects(members);
+    }
+
+    public boolean isSatisfiedBy(BitSet held) {
+        if (required == 1) {
+            return held.intersects(members);
+        }
+        BitSet matched = (BitSet) held.clone();
+        matched.and(members);
+        return matched.cardinality() >= required;
+    }
+
+    public MutableComponent describe(LanguageService.Language lang) {
+        if (mode == Mode.SINGLE) {
+            return Component.translatable(getDisplayItem().getDescriptionId());
+        }
+
+        MutableComponent component = Component.empty();
+        if (mode == Mode.ANY) {
+            component.append(Component.literal(Messages.getString(lang, Messages.MessageKey.TARGET_ANY_OF)));
+        } else {
+            component.append(Component.literal(Messages.getString(lang, Messages.MessageKey.TARGET_COLLECT, required, items.size())));
+        }
+        int shown = Math.min(DESCRIBE_LIMIT, items.size());
+        for (int i = 0; i < shown; i++) {
+            if (i > 0) {
+                component.append(Component.literal(", "));
+            }
+            component.append(Component.translatable(items.get(i).getDescriptionId()));
+        }
+        if (items.size() > shown) {
+            component.append(Component.literal(" +" + (items.size() - shown)));
+        }
+        return component;
+    }
+}
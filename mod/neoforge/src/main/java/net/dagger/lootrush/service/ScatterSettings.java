@@ -0,0 +1,9 @@
+package net.dagger.lootrush.service;
+
+import java.util.List;
+
+public record ScatterSettings(int minScatterCoord, int maxScatterCoord, int minScatterDistance, int searchConcurrency, int spawnPoolSize,
+        int spawnPoolTickBudgetMs, int sampleStep,
+        int chunkLoadMaxInFlight, int chunkLoadTargetMspt, int readyRadius, boolean streamingScatter, int chunkPinSeconds,
+        List<String> biomeAllow, List<String> biomeDeny) {
+}
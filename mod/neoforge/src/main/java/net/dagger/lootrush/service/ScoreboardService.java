@@ -1,23 +1,36 @@
 package net.dagger.lootrush.service;
 
+import net.minecraft.ChatFormatting;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.numbers.BlankFormat;
 import net.minecraft.network.protocol.game.ClientboundSetDisplayObjectivePacket;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.ServerScoreboard;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.scores.DisplaySlot;
 import net.minecraft.world.scores.Objective;
+import net.minecraft.world.scores.ScoreAccess;
 import net.minecraft.world.scores.ScoreHolder;
 import net.minecraft.world.scores.criteria.ObjectiveCriteria;
 
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 
 public class ScoreboardService {
     private final LanguageService languageService;
-    private static final String OBJECTIVE_PREFIX = "lr";
-    private final Map<UUID, Objective> playerObjectives = new HashMap<>();
-    private final Map<UUID, String> lastTimerKeys = new HashMap<>();
+    private static final String OBJECTIVE_PREFIX = "lr_";
+    private static final ScoreHolder TIMER_HOLDER = ScoreHolder.forNameOnly("#timer");
+    private static final int TIMER_SCORE = 99;
+    private final Map<LanguageService.Language, Objective> languageObjectives = new EnumMap<>(LanguageService.Language.class);
+    private final Map<LanguageService.Language, Component> timerPrefixes = new EnumMap<>(LanguageService.Language.class);
+    private final Map<UUID, LanguageService.Language> viewers = new HashMap<>();
+    private final Map<String, Integer> scores = new HashMap<>();
+    private final Map<String, Integer> pendingScores = new LinkedHashMap<>();
+    private String timeString = "00:00";
 
     public ScoreboardService(LanguageService languageService) {
         this.languageService = languageService;
@@ -25,91 +38,117 @@ public class ScoreboardService {
 
     public void createScoreboard(ServerScoreboard scoreboard, Map<UUID, Integer> playerLives, Collection<ServerPlayer> viewers) {
         clear(scoreboard, viewers);
+        for (ServerPlayer player : viewers) {
+            Integer lives = playerLives.get(player.getUUID());
+            if (lives != null) {
+                scores.put(player.getScoreboardName(), lives);
+            }
+        }
         for (ServerPlayer viewer : viewers) {
-            createPlayerScoreboard(scoreboard, viewer, playerLives, viewers);
+            attach(scoreboard, viewer, languageService.getLanguage(viewer));
         }
     }
 
     public void addViewer(ServerScoreboard scoreboard, ServerPlayer viewer, Map<UUID, Integer> playerLives, Collection<ServerPlayer> allPlayers) {
-        if (playerObjectives.containsKey(viewer.getUUID())) {
+        if (viewers.containsKey(viewer.getUUID())) {
             return;
         }
-        createPlayerScoreboard(scoreboard, viewer, playerLives, allPlayers);
+        Integer lives = playerLives.get(viewer.getUUID());
+        if (lives != null && !scores.containsKey(viewer.getScoreboardName())) {
+            setScore(scoreboard, viewer.getScoreboardName(), lives);
+        }
+        attach(scoreboard, viewer, languageService.getLanguage(viewer));
     }
 
-    private void createPlayerScoreboard(ServerScoreboard scoreboard, ServerPlayer viewer, Map<UUID, Integer> playerLives, Collection<ServerPlayer> allPlayers) {
-        LanguageService.Language playerLang = languageService.getLanguage(viewer);
-        String compactId = viewer.getUUID().toString().replace("-", "");
-        String objectiveName = OBJECTIVE_PREFIX + compactId.substring(0, 14);
-        Objective objective = scoreboard.addObjective(
-                objectiveName,
-                ObjectiveCriteria.DUMMY,
-                Messages.get(playerLang, Messages.MessageKey.LIVES),
-                ObjectiveCriteria.RenderType.INTEGER,
-                true,
-                null
-        );
-        playerObjectives.put(viewer.getUUID(), objective);
-        viewer.connection.send(new ClientboundSetDisplayObjectivePacket(DisplaySlot.SIDEBAR, objective));
+    private Objective getObjective(ServerScoreboard scoreboard, LanguageService.Language lang) {
+        return languageObjectives.computeIfAbsent(lang, key -> {
+            String objectiveName = OBJECTIVE_PREFIX + key.getCode();
+            Objective existing = scoreboard.getObjective(objectiveName);
+            if (existing != null) {
+                scoreboard.removeObjective(existing);
+            }
+            Objective objective = scoreboard.addObjective(
+                    objectiveName,
+                    ObjectiveCriteria.DUMMY,
+                    Messages.get(key, Messages.MessageKey.LIVES),
+                    ObjectiveCriteria.RenderType.INTEGER,
+                    true,
+                    null
+            );
+            timerPrefixes.put(key, Messages.get(key, Messages.MessageKey.TIME));
+            ScoreAccess timer = scoreboard.getOrCreatePlayerScore(TIMER_HOLDER, objective);
+            timer.set(TIMER_SCORE);
+            timer.numberFormatOverride(BlankFormat.INSTANCE);
+            timer.display(timerLine(key));
+            for (Map.Entry<String, Integer> entry : scores.entrySet()) {
+                scoreboard.getOrCreatePlayerScore(ScoreHolder.forNameOnly(entry.getKey()), objective).set(entry.getValue());
+            }
+            return objective;
+        });
+    }
 
-        updateViewerLives(scoreboard, objective, playerLives, allPlayers);
+    private void attach(ServerScoreboard scoreboard, ServerPlayer viewer, LanguageService.Language lang) {
+        Objective objective = getObjective(scoreboard, lang);
+        viewers.put(viewer.getUUID(), lang);
+        viewer.connection.send(new ClientboundSetDisplayObjectivePacket(DisplaySlot.SIDEBAR, objective));
     }
 
-    private void updateViewerLives(ServerScoreboard scoreboard, Objective objective, Map<UUID, Integer> playerLives, Collection<ServerPlayer> allPlayers) {
-        for (ServerPlayer player : allPlayers) {
-            Integer lives = playerLives.get(player.getUUID());
-            if (lives != null) {
-                scoreboard.getOrCreatePlayerScore(ScoreHolder.forNameOnly(player.getScoreboardName()), objective).set(lives);
-            }
+    public void onLivesChanged(LivesService.LivesChange change) {
+        if (change.oldLives() == change.newLives() || languageObjectives.isEmpty()) {
+            return;
         }
+        pendingScores.put(change.playerName(), change.newLives());
     }
 
-    public void updateAllPlayersLives(ServerScoreboard scoreboard, Map<UUID, Integer> playerLives, Collection<ServerPlayer> allPlayers) {
-        for (Objective objective : playerObjectives.values()) {
-            updateViewerLives(scoreboard, objective, playerLives, allPlayers);
+    public void tick(MinecraftServer server) {
+        if (pendingScores.isEmpty()) {
+            return;
+        }
+        ServerScoreboard scoreboard = server.getScoreboard();
+        for (Map.Entry<String, Integer> entry : pendingScores.entrySet()) {
+            setScore(scoreboard, entry.getKey(), entry.getValue());
         }
+        pendingScores.clear();
     }
 
-    public void updatePlayerLives(ServerScoreboard scoreboard, ServerPlayer player, int lives) {
-        for (Objective objective : playerObjectives.values()) {
-            scoreboard.getOrCreatePlayerScore(ScoreHolder.forNameOnly(player.getScoreboardName()), objective).set(lives);
+    private void setScore(ServerScoreboard scoreboard, String holderName, int lives) {
+        Integer previous = scores.put(holderName, lives);
+        if (previous != null && previous == lives) {
+            return;
+        }
+        for (Objective objective : languageObjectives.values()) {
+            scoreboard.getOrCreatePlayerScore(ScoreHolder.forNameOnly(holderName), objective).set(lives);
         }
     }
 
-    public void updateTimer(ServerScoreboard scoreboard, String timeString, Collection<ServerPlayer> viewers) {
-        for (ServerPlayer viewer : viewers) {
-            Objective objective = playerObjectives.get(viewer.getUUID());
-            if (objective == null) {
-                continue;
-            }
-            String lastKey = lastTimerKeys.get(viewer.getUUID());
-            if (lastKey != null) {
-                scoreboard.resetSinglePlayerScore(ScoreHolder.forNameOnly(lastKey), objective);
-            }
-            lastTimerKeys.remove(viewer.getUUID());
+    public void updateTimer(ServerScoreboard scoreboard, String timeString) {
+        if (timeString.equals(this.timeString)) {
+            return;
         }
+        this.timeString = timeString;
+        for (Map.Entry<LanguageService.Language, Objective> entry : languageObjectives.entrySet()) {
+            scoreboard.getOrCreatePlayerScore(TIMER_HOLDER, entry.getValue()).display(timerLine(entry.getKey()));
+        }
+    }
+
+    private Component timerLine(LanguageService.Language lang) {
+        return timerPrefixes.get(lang).copy().append(Component.literal(timeString).withStyle(ChatFormatting.WHITE));
     }
 
     public void updateLanguage(ServerScoreboard scoreboard, ServerPlayer viewer, LanguageService.Language newLang) {
-        if (viewer == null || newLang == null) {
+        if (viewer == null || newLang == null || !viewers.containsKey(viewer.getUUID())) {
             return;
         }
-        Objective objective = playerObjectives.get(viewer.getUUID());
-        if (objective == null) {
-            return;
-        }
-        objective.setDisplayName(Messages.get(newLang, Messages.MessageKey.LIVES));
+        attach(scoreboard, viewer, newLang);
     }
 
     public void removePlayer(ServerScoreboard scoreboard, ServerPlayer player) {
-        Objective objective = playerObjectives.remove(player.getUUID());
-        lastTimerKeys.remove(player.getUUID());
-        if (objective != null) {
-            scoreboard.removeObjective(objective);
-        }
+        viewers.remove(player.getUUID());
+        scores.remove(player.getScoreboardName());
+        pendingScores.remove(player.getScoreboardName());
         player.connection.send(new ClientboundSetDisplayObjectivePacket(DisplaySlot.SIDEBAR, null));
-        for (Objective obj : playerObjectives.values()) {
-            scoreboard.resetSinglePlayerScore(ScoreHolder.forNameOnly(player.getScoreboardName()), obj);
+        for (Objective objective : languageObjectives.values()) {
+            scoreboard.resetSinglePlayerScore(ScoreHolder.forNameOnly(player.getScoreboardName()), objective);
         }
     }
 
@@ -117,10 +156,14 @@ public class ScoreboardService {
         for (ServerPlayer player : viewers) {
             player.connection.send(new ClientboundSetDisplayObjectivePacket(DisplaySlot.SIDEBAR, null));
         }
-        for (Objective objective : playerObjectives.values()) {
+        for (Objective objective : languageObjectives.values()) {
             scoreboard.removeObjective(objective);
         }
-        playerObjectives.clear();
-        lastTimerKeys.clear();
+        languageObjectives.clear();
+        timerPrefixes.clear();
+        timeString = "00:00";
+        this.viewers.clear();
+        scores.clear();
+        pendingScores.clear();
     }
 }
@@ -0,0 +1,99 @@
+package net.dagger.lootrush.service;
+
+import net.dagger.lootrush.LootRush;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public class SpawnPoolService {
+    private static final int FILL_PERIOD_TICKS = 10;
+
+    private final LocationProbeService locationProbeService;
+    private final ProbeIndexService probeIndexService;
+    private final Supplier<Boolean> canFillSupplier;
+    private final int capacity;
+    private final long tickBudgetNanos;
+    private final Map<ServerLevel, Deque<BlockPos>> pools = new HashMap<>();
+    private final Map<ServerLevel, Deque<BlockPos>> indexedCandidates = new HashMap<>();
+    private int ticksUntilFill = FILL_PERIOD_TICKS;
+    private boolean probeInFlight = false;
+
+    public SpawnPoolService(LocationProbeService locationProbeService, ProbeIndexService probeIndexService,
+                            Supplier<Boolean> canFillSupplier, ScatterSettings settings) {
+        this.locationProbeService = locationProbeService;
+        this.probeIndexService = probeIndexService;
+        this.canFillSupplier = canFillSupplier;
+        this.capacity = Math.max(0, settings.spawnPoolSize());
+        this.tickBudgetNanos = settings.spawnPoolTickBudgetMs() * 1_000_000L;
+    }
+
+    public void tick(MinecraftServer server) {
+        if (capacity <= 0 || --ticksUntilFill > 0) {
+            return;
+        }
+        ticksUntilFill = FILL_PERIOD_TICKS;
+        if (probeInFlight || !canFillSupplier.get()) {
+            return;
+        }
+        if (server.getAverageTickTimeNanos() > tickBudgetNanos) {
+            return;
+        }
+
+        ServerLevel level = server.overworld();
+        if (size(level) >= capacity) {
+            return;
+        }
+
+        probeInFlight = true;
+        Deque<BlockPos> candidates = indexedCandidates.computeIfAbsent(level, key -> new ArrayDeque<>(probeIndexService.safeLocations(level)));
+        BlockPos candidate = candidates.pollFirst();
+        int x = candidate != null ? candidate.getX() : locationProbeService.randomScatterCoordinate();
+        int z = candidate != null ? candidate.getZ() : locationProbeService.randomScatterCoordinate();
+        locationProbeService.probe(level, x, z, false).whenComplete((result, throwable) -> server.execute(() -> {
+            probeInFlight = false;
+            if (throwable != null) {
+                LootRush.LOGGER.warn("Ошибка прогрева пула точек спавна: {}", throwable.getMessage());
+                return;
+            }
+            if (result.isSafe() && canFillSupplier.get()) {
+                offer(level, result.feetPos());
+            }
+        }));
+    }
+
+    public synchronized BlockPos take(ServerLevel level, Predicate<BlockPos> accept) {
+        Deque<BlockPos> pool = pools.get(level);
+        if (pool == null) {
+            return null;
+        }
+        Iterator<BlockPos> iterator = pool.iterator();
+        while (iterator.hasNext()) {
+            BlockPos pos = iterator.next();
+            if (accept.test(pos)) {
+                iterator.remove();
+                return pos;
+            }
+        }
+        return null;
+    }
+
+    public synchronized int size(ServerLevel level) {
+        Deque<BlockPos> pool = pools.get(level);
+        return pool == null ? 0 : pool.size();
+    }
+
+    private synchronized void offer(ServerLevel level, BlockPos pos) {
+        Deque<BlockPos> pool = pools.computeIfAbsent(level, key -> new ArrayDeque<>());
+        if (pool.size() < capacity) {
+            pool.addLast(pos);
+        }
+    }
+}
@@ -7,24 +7,19 @@ import net.minecraft.ChatFormatting;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerBossEvent;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.level.TicketType;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.BossEvent;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.ChunkPos;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
-import net.minecraft.world.level.chunk.status.ChunkStatus;
-import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.storage.LevelData;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -35,45 +30,45 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 public class TeleportService {
-    private final int minScatterCoord;
-    private final int maxScatterCoord;
-    private static final int MIN_PLAYER_DISTANCE = 10000;
+    private final int searchConcurrency;
+    private final int readyRadius;
+    private final boolean streamingScatter;
+    private final int minPlayerDistance;
+    private final int maxParallelChunkLoads;
+    private final long chunkLoadTargetNanos;
     private static final int SAFE_LOCATION_ATTEMPTS = 256;
-    private static final int MAX_PARALLEL_CHUNK_LOADS = 8;
-    private static final Set<Block> UNSAFE_FLOOR_BLOCKS = Set.of(
-            Blocks.LAVA,
-            Blocks.WATER,
-            Blocks.KELP,
-            Blocks.KELP_PLANT,
-            Blocks.SEAGRASS,
-            Blocks.TALL_SEAGRASS,
-            Blocks.BUBBLE_COLUMN,
-            Blocks.CACTUS,
-            Blocks.MAGMA_BLOCK,
-            Blocks.CAMPFIRE,
-            Blocks.SOUL_CAMPFIRE,
-            Blocks.FIRE,
-            Blocks.SOUL_FIRE,
-            Blocks.POWDER_SNOW,
-            Blocks.SWEET_BERRY_BUSH,
-            Blocks.COBWEB,
-            Blocks.WITHER_ROSE
-    );
+    private static final int PRELOAD_RADIUS = 12;
+    private static final int PLACEMENT_DRAWS = 64;
 
     private final LanguageService languageService;
+    private final LocationProbeService locationProbeService;
+    private final SpawnPoolService spawnPoolService;
+    private final ChunkTicketService chunkTicketService;
+    private final ProbeFeedbackService probeFeedbackService;
     private final Random random = new Random();
     private final Map<LanguageService.Language, ServerBossEvent> currentBossBars = new HashMap<>();
     private volatile boolean cancelled = false;
     private volatile boolean debugEnabled = false;
+    private volatile CompletableFuture<Void> backgroundPreload;
     private final List<CompletableFuture<?>> activeOperations = new CopyOnWriteArrayList<>();
     private final Map<UUID, Integer> invulnerabilityTicks = new HashMap<>();
 
-    public TeleportService(LanguageService languageService, int minScatterCoord, int maxScatterCoord) {
+    public TeleportService(LanguageService languageService, LocationProbeService locationProbeService, SpawnPoolService spawnPoolService,
+                           ChunkTicketService chunkTicketService, ProbeFeedbackService probeFeedbackService, ScatterSettings settings) {
         this.languageService = languageService;
-        this.minScatterCoord = minScatterCoord;
-        this.maxScatterCoord = maxScatterCoord;
+        this.locationProbeService = locationProbeService;
+        this.spawnPoolService = spawnPoolService;
+        this.chunkTicketService = chunkTicketService;
+        this.probeFeedbackService = probeFeedbackService;
+        this.searchConcurrency = Math.max(1, settings.searchConcurrency());
+        this.readyRadius = Math.min(PRELOAD_RADIUS, Math.max(0, settings.readyRadius()));
+        this.streamingScatter = settings.streamingScatter();
+        this.minPlayerDistance = Math.max(0, settings.minScatterDistance());
+        this.maxParallelChunkLoads = Math.max(1, settings.chunkLoadMaxInFlight());
+        this.chunkLoadTargetNanos = settings.chunkLoadTargetMspt() * 1_000_000L;
     }
 
     public CompletableFuture<Void> scatterPlayers(List<ServerPlayer> players) {
@@ -86,30 +81,42 @@ public class TeleportService {
         }
         activeOperations.clear();
         cancelled = false;
+        backgroundPreload = null;
+        probeFeedbackService.open(players);
 
         Map<LanguageService.Language, ServerBossEvent> scatterBars = createScatterBossBar(players, players.size());
         currentBossBars.putAll(scatterBars);
         CompletableFuture<Void> mainFuture = teleportPlayers(players, scatterBars);
         trackOperation(mainFuture);
+        MinecraftServer server = players.isEmpty() ? null : players.get(0).level().getServer();
         return mainFuture.whenComplete((ignored, throwable) -> {
-            hideScatterBossBar(scatterBars, throwable == null && !cancelled, players.isEmpty() ? null : players.get(0).level().getServer());
-            if (currentBossBars.equals(scatterBars)) {
-                currentBossBars.clear();
-            } else {
-                for (ServerBossEvent bar : scatterBars.values()) {
-                    currentBossBars.values().remove(bar);
-                }
-            }
             activeOperations.remove(mainFuture);
+            CompletableFuture<Void> streaming = backgroundPreload;
+            if (throwable == null && !cancelled && server != null && streaming != null && !streaming.isDone()) {
+                streaming.whenComplete((done, error) -> server.execute(() -> releaseScatterBossBar(scatterBars, error == null && !cancelled, server)));
+                return;
+            }
+            releaseScatterBossBar(scatterBars, throwable == null && !cancelled, server);
         });
     }
 
+    private void releaseScatterBossBar(Map<LanguageService.Language, ServerBossEvent> scatterBars, boolean success, MinecraftServer server) {
+        hideScatterBossBar(scatterBars, success, server);
+        if (currentBossBars.equals(scatterBars)) {
+            currentBossBars.clear();
+        } else {
+            for (ServerBossEvent bar : scatterBars.values()) {
+                currentBossBars.values().remove(bar);
+            }
+        }
+    }
+
     private CompletableFuture<Void> teleportPlayers(List<ServerPlayer> players, Map<LanguageService.Language, ServerBossEvent> scatterBars) {
         if (players.isEmpty() || cancelled) {
             return CompletableFuture.completedFuture(null);
         }
 
-        CompletableFuture<List<PlayerScatterTarget>> targetsFuture = prepareScatterTargets(players, new ArrayList<>(), 0, scatterBars);
+        CompletableFuture<List<PlayerScatterTarget>> targetsFuture = prepareScatterTargets(players, scatterBars);
         trackOperation(targetsFuture);
         return targetsFuture.thenCompose(targets -> {
             if (cancelled || targets.isEmpty()) {
@@ -133,6 +140,10 @@ public class TeleportService {
                 }
             });
 
+            if (streamingScatter) {
+                return streamPlayers(targets);
+            }
+
             CompletableFuture<Void> chunksFuture = preloadAllChunksParallel(targets, targets);
             trackOperation(chunksFuture);
             return chunksFuture.thenRun(() -> {
@@ -160,11 +171,45 @@ public class TeleportService {
 
     private CompletableFuture<List<PlayerScatterTarget>> prepareScatterTargets(
             List<ServerPlayer> players,
-            List<PlayerScatterTarget> accumulator,
-            int index,
             Map<LanguageService.Language, ServerBossEvent> scatterBars) {
-        if (cancelled || index >= players.size()) {
-            return CompletableFuture.completedFuture(new ArrayList<>(accumulator));
+        if (cancelled || players.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+
+        CompletableFuture<List<PlayerScatterTarget>> doneFuture = new CompletableFuture<>();
+        PlayerScatterTarget[] results = new PlayerScatterTarget[players.size()];
+        ScatterPlacementGrid placementGrid = new ScatterPlacementGrid(minPlayerDistance,
+                locationProbeService.getMinScatterCoord(), locationProbeService.getMaxScatterCoord());
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicInteger readyCount = new AtomicInteger();
+
+        updateScatterBossBar(scatterBars, 0, players.size(), null, true);
+        int parallelSearches = Math.min(searchConcurrency, players.size());
+        for (int i = 0; i < parallelSearches; i++) {
+            startNextScatterSearch(players, results, placementGrid, nextIndex, readyCount, scatterBars, doneFuture);
+        }
+        return doneFuture;
+    }
+
+    private void startNextScatterSearch(
+            List<ServerPlayer> players,
+            PlayerScatterTarget[] results,
+            ScatterPlacementGrid placementGrid,
+            AtomicInteger nextIndex,
+            AtomicInteger readyCount,
+            Map<LanguageService.Language, ServerBossEvent> scatterBars,
+            CompletableFuture<List<PlayerScatterTarget>> doneFuture) {
+        if (doneFuture.isDone()) {
+            return;
+        }
+        if (cancelled) {
+            doneFuture.complete(collectScatterTargets(results));
+            return;
+        }
+
+        int index = nextIndex.getAndIncrement();
+        if (index >= players.size()) {
+            return;
         }
 
         ServerPlayer player = players.get(index);
@@ -172,18 +217,22 @@ public class TeleportService {
             LanguageService.Language participantLang = languageService.getLanguage(participant);
             participant.sendSystemMessage(Messages.get(participantLang, Messages.MessageKey.SEARCHING_LOCATION, player.getName().getString()));
         }
-        updateScatterBossBar(scatterBars, accumulator.size(), players.size(), player.getName().getString(), true);
-
-        List<ScatterLocation> existingLocations = accumulator.stream()
-                .map(target -> new ScatterLocation(target.level(), target.location()))
-                .toList();
 
-        CompletableFuture<BlockPos> locationFuture = findRandomLocationAsync((ServerLevel) player.level(), existingLocations, player.getName().getString(), players);
+        ServerLevel level = (ServerLevel) player.level();
+        CompletableFuture<BlockPos> locationFuture = findRandomLocationAsync(level, placementGrid, player.getName().getString(), players);
         trackOperation(locationFuture);
-        return locationFuture.thenCompose(location -> {
+        locationFuture.whenComplete((location, throwable) -> level.getServer().execute(() -> {
+            activeOperations.remove(locationFuture);
+            if (doneFuture.isDone()) {
+                return;
+            }
             if (cancelled) {
-                activeOperations.remove(locationFuture);
-                return CompletableFuture.completedFuture(new ArrayList<>(accumulator));
+                doneFuture.complete(collectScatterTargets(results));
+                return;
+            }
+            if (throwable != null) {
+                doneFuture.completeExceptionally(throwable);
+                return;
             }
 
             for (ServerPlayer participant : players) {
@@ -196,22 +245,66 @@ public class TeleportService {
                             player.getName().getString()));
                 }
             }
-            accumulator.add(new PlayerScatterTarget(player.getUUID(), (ServerLevel) player.level(), location));
-            updateScatterBossBar(scatterBars, accumulator.size(), players.size(), player.getName().getString(), false);
-            CompletableFuture<List<PlayerScatterTarget>> nextFuture = prepareScatterTargets(players, accumulator, index + 1, scatterBars);
-            nextFuture.whenComplete((ignored, throwable) -> activeOperations.remove(locationFuture));
-            return nextFuture;
-        });
+            results[index] = new PlayerScatterTarget(player.getUUID(), level, location);
+            int ready = readyCount.incrementAndGet();
+            updateScatterBossBar(scatterBars, ready, players.size(), player.getName().getString(), false);
+            if (ready >= players.size()) {
+                doneFuture.complete(collectScatterTargets(results));
+                return;
+            }
+            startNextScatterSearch(players, results, placementGrid, nextIndex, readyCount, scatterBars, doneFuture);
+        }));
     }
 
-    private CompletableFuture<BlockPos> findRandomLocationAsync(ServerLevel level, List<ScatterLocation> existingLocations, String playerName, List<ServerPlayer> participants) {
+    private List<PlayerScatterTarget> collectScatterTargets(PlayerScatterTarget[] results) {
+        List<PlayerScatterTarget> targets = new ArrayList<>();
+        for (PlayerScatterTarget target : results) {
+            if (target != null) {
+                targets.add(target);
+            }
+        }
+        return targets;
+    }
+
+    private CompletableFuture<BlockPos> findRandomLocationAsync(ServerLevel level, ScatterPlacementGrid placementGrid, String playerName, List<ServerPlayer> participants) {
         CompletableFuture<BlockPos> future = new CompletableFuture<>();
         trackOperation(future);
-        findRandomLocationAttempt(level, existingLocations, future, 0, playerName, participants);
+        tryPooledLocation(level, placementGrid, future, playerName, participants);
         return future;
     }
 
-    private void findRandomLocationAttempt(ServerLevel level, List<ScatterLocation> existingLocations, CompletableFuture<BlockPos> future, int attempt,
+    private void tryPooledLocation(ServerLevel level, ScatterPlacementGrid placementGrid, CompletableFuture<BlockPos> future,
+                                   String playerName, List<ServerPlayer> participants) {
+        if (cancelled || future.isDone()) {
+            return;
+        }
+
+        BlockPos pooled = spawnPoolService.take(level, candidate -> placementGrid.tryReserve(level, candidate));
+        if (pooled == null) {
+            findRandomLocationAttempt(level, placementGrid, future, 0, playerName, participants);
+            return;
+        }
+
+        locationProbeService.probe(level, pooled.getX(), pooled.getZ(), true).whenComplete((result, throwable) -> level.getServer().execute(() -> {
+            if (cancelled || future.isDone()) {
+                return;
+            }
+            placementGrid.release(level, pooled);
+            if (throwable == null && result.isSafe()) {
+                BlockPos feetPos = result.feetPos();
+                if (placementGrid.tryReserve(level, feetPos)) {
+                    if (debugEnabled) {
+                        LootRush.LOGGER.info("[LootRush] {} <- spawn pool {}", playerName, formatLocation(feetPos));
+                    }
+                    future.complete(feetPos);
+                    return;
+                }
+            }
+            tryPooledLocation(level, placementGrid, future, playerName, participants);
+        }));
+    }
+
+    private void findRandomLocationAttempt(ServerLevel level, ScatterPlacementGrid placementGrid, CompletableFuture<BlockPos> future, int attempt,
                                            String playerName, List<ServerPlayer> participants) {
         if (cancelled || future.isDone()) {
             if (cancelled && !future.isDone()) {
@@ -224,136 +317,69 @@ public class TeleportService {
             LootRush.LOGGER.warn("Не удалось найти безопасную точку для телепорта после {} попыток.", SAFE_LOCATION_ATTEMPTS);
             level.getServer().execute(() -> {
                 if (!cancelled && !future.isDone()) {
-                    future.complete(fallbackRandomLocation(level));
+                    BlockPos fallback = fallbackRandomLocation(level);
+                    placementGrid.add(level, fallback);
+                    future.complete(fallback);
                 }
             });
             return;
         }
 
-        int x = randomCoordinate();
-        int z = randomCoordinate();
-
-        if (!isFarEnough(level, x, z, existingLocations)) {
-            for (ServerPlayer participant : participants) {
-                LanguageService.Language lang = languageService.getLanguage(participant);
-                participant.sendSystemMessage(Messages.get(lang, Messages.MessageKey.ATTEMPT_TOO_CLOSE, attempt + 1, playerName, x, z));
-            }
-            findRandomLocationAttempt(level, existingLocations, future, attempt + 1, playerName, participants);
+        ScatterPlacementGrid.Candidate candidate = placementGrid.sample(level, locationProbeService::randomScatterCoordinate, PLACEMENT_DRAWS);
+        int x = candidate.x();
+        int z = candidate.z();
+        if (!candidate.farEnough()) {
+            probeFeedbackService.record(Messages.MessageKey.ATTEMPT_TOO_CLOSE, attempt + 1, playerName, x, z);
+            findRandomLocationAttempt(level, placementGrid, future, attempt + 1, playerName, participants);
             return;
         }
 
-        int chunkX = x >> 4;
-        int chunkZ = z >> 4;
-        CompletableFuture<ChunkAccess> chunkFuture = preloadSurroundingChunks(level, chunkX, chunkZ)
-                .thenCompose(ignored -> loadChunk(level, chunkX, chunkZ));
-        trackOperation(chunkFuture);
-        chunkFuture.thenAccept(chunk -> {
+        CompletableFuture<LocationProbeService.ProbeResult> probeFuture = locationProbeService.probe(level, x, z, true);
+        trackOperation(probeFuture);
+        probeFuture.thenAccept(result -> {
             if (cancelled || future.isDone()) {
                 return;
             }
-            level.getServer().execute(() -> {
-                if (cancelled || future.isDone()) {
-                    return;
-                }
-                int topY = level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x, z);
-                int floorY = topY - 1;
-                if (floorY < level.getMinY()) {
-                    for (ServerPlayer participant : participants) {
-                        LanguageService.Language lang = languageService.getLanguage(participant);
-                        participant.sendSystemMessage(Messages.get(lang, Messages.MessageKey.ATTEMPT_Y_TOO_LOW, attempt + 1, playerName, x, z));
-                    }
-                    findRandomLocationAttempt(level, existingLocations, future, attempt + 1, playerName, participants);
-                    return;
-                }
-
-                BlockPos floorPos = new BlockPos(x, floorY, z);
-                BlockPos feetPos = floorPos.above();
-                BlockPos headPos = floorPos.above(2);
+            if (result.verdict() == LocationProbeService.Verdict.Y_TOO_LOW) {
+                probeFeedbackService.record(Messages.MessageKey.ATTEMPT_Y_TOO_LOW, attempt + 1, playerName, x, z);
+                findRandomLocationAttempt(level, placementGrid, future, attempt + 1, playerName, participants);
+                return;
+            }
 
-                BlockState floor = level.getBlockState(floorPos);
-                BlockState feet = level.getBlockState(feetPos);
-                BlockState head = level.getBlockState(headPos);
+            if (result.verdict() == LocationProbeService.Verdict.BIOME_EXCLUDED) {
+                probeFeedbackService.record(Messages.MessageKey.ATTEMPT_BIOME_EXCLUDED, attempt + 1, playerName, x, z);
+                findRandomLocationAttempt(level, placementGrid, future, attempt + 1, playerName, participants);
+                return;
+            }
 
-                if (isSafeFloor(floor) && isPassable(level, feetPos) && isPassable(level, headPos)) {
-                    if (debugEnabled) {
-                        for (ServerPlayer participant : participants) {
-                            LanguageService.Language lang = languageService.getLanguage(participant);
-                            participant.sendSystemMessage(Messages.get(lang, Messages.MessageKey.ATTEMPT_LOCATION_FOUND, attempt + 1, playerName, x, feetPos.getY(), z));
-                        }
-                    }
-                    future.complete(feetPos);
-                } else {
-                    if (debugEnabled) {
-                        for (ServerPlayer participant : participants) {
-                            LanguageService.Language lang = languageService.getLanguage(participant);
-                            participant.sendSystemMessage(Messages.get(lang, Messages.MessageKey.ATTEMPT_UNSAFE_BLOCKS, attempt + 1, playerName, x, feetPos.getY(), z,
-                                    floor.getBlock().getName().getString(), feet.getBlock().getName().getString(), head.getBlock().getName().getString()));
-                        }
-                    }
-                    findRandomLocationAttempt(level, existingLocations, future, attempt + 1, playerName, participants);
+            BlockPos feetPos = result.feetPos();
+            if (result.isSafe()) {
+                if (!placementGrid.tryReserve(level, feetPos)) {
+                    probeFeedbackService.record(Messages.MessageKey.ATTEMPT_TOO_CLOSE, attempt + 1, playerName, x, z);
+                    findRandomLocationAttempt(level, placementGrid, future, attempt + 1, playerName, participants);
+                    return;
                 }
-            });
+                probeFeedbackService.record(Messages.MessageKey.ATTEMPT_LOCATION_FOUND, attempt + 1, playerName, feetPos.getX(), feetPos.getY(), feetPos.getZ());
+                future.complete(feetPos);
+            } else {
+                probeFeedbackService.record(Messages.MessageKey.ATTEMPT_UNSAFE_BLOCKS, attempt + 1, playerName, x, feetPos.getY(), z,
+                        blockName(result.floor()), blockName(result.feet()), blockName(result.head()));
+                findRandomLocationAttempt(level, placementGrid, future, attempt + 1, playerName, participants);
+            }
         }).exceptionally(ex -> {
             if (!cancelled) {
-                for (ServerPlayer participant : participants) {
-                    LanguageService.Language lang = languageService.getLanguage(participant);
-                    participant.sendSystemMessage(Messages.get(lang, Messages.MessageKey.CHUNK_LOAD_ERROR, ex.getMessage()));
-                }
-                findRandomLocationAttempt(level, existingLocations, future, attempt + 1, playerName, participants);
+                probeFeedbackService.record(Messages.MessageKey.CHUNK_LOAD_ERROR, ex.getMessage());
+                findRandomLocationAttempt(level, placementGrid, future, attempt + 1, playerName, participants);
             }
             return null;
-        }).whenComplete((ignored, throwable) -> activeOperations.remove(chunkFuture));
+        }).whenComplete((ignored, throwable) -> activeOperations.remove(probeFuture));
     }
 
     private CompletableFuture<ChunkAccess> loadChunk(ServerLevel level, int chunkX, int chunkZ) {
-        CompletableFuture<ChunkAccess> resultFuture = new CompletableFuture<>();
-        MinecraftServer server = level.getServer();
-        ChunkPos pos = new ChunkPos(chunkX, chunkZ);
-
-        server.execute(() -> {
-            if (cancelled) {
-                resultFuture.completeExceptionally(new IllegalStateException("Chunk load cancelled"));
-                return;
-            }
-            CompletableFuture<?> ticketFuture = level.getChunkSource().addTicketAndLoadWithRadius(TicketType.FORCED, pos, 1);
-            ticketFuture.whenComplete((ignored, ticketError) -> {
-                if (ticketError != null) {
-                    resultFuture.completeExceptionally(ticketError);
-                    return;
-                }
-                CompletableFuture<ChunkAccess> chunkFuture = level.getChunkSource()
-                        .getChunkFuture(chunkX, chunkZ, ChunkStatus.FULL, true)
-                        .thenApply(result -> {
-                            ChunkAccess chunk = result.orElse(null);
-                            if (chunk == null) {
-                                String error = result.getError() == null ? "unknown" : result.getError();
-                                throw new IllegalStateException("Chunk load failed: " + error);
-                            }
-                            return chunk;
-                        });
-
-                chunkFuture.whenComplete((chunk, throwable) -> {
-                    level.getChunkSource().removeTicketWithRadius(TicketType.FORCED, pos, 1);
-                    if (throwable != null) {
-                        resultFuture.completeExceptionally(throwable);
-                        return;
-                    }
-                    resultFuture.complete(chunk);
-                });
-            });
-        });
-
-        return resultFuture;
-    }
-
-    private CompletableFuture<Void> preloadSurroundingChunks(ServerLevel level, int chunkX, int chunkZ) {
-        List<CompletableFuture<ChunkAccess>> futures = new ArrayList<>();
-        for (int dx = -2; dx <= 2; dx++) {
-            for (int dz = -2; dz <= 2; dz++) {
-                futures.add(loadChunk(level, chunkX + dx, chunkZ + dz));
-            }
+        if (cancelled) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Chunk load cancelled"));
         }
-        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+        return locationProbeService.loadChunk(level, chunkX, chunkZ);
     }
 
     private CompletableFuture<Void> preloadAllChunksParallel(List<PlayerScatterTarget> targets, List<PlayerScatterTarget> allTargets) {
@@ -361,34 +387,12 @@ public class TeleportService {
             return CompletableFuture.completedFuture(null);
         }
 
-        Set<ChunkKey> nearChunkKeys = new HashSet<>();
-        Set<ChunkKey> farChunkKeys = new HashSet<>();
-
-        for (PlayerScatterTarget target : targets) {
-            BlockPos loc = target.location();
-            int chunkX = loc.getX() >> 4;
-            int chunkZ = loc.getZ() >> 4;
-            ServerLevel level = target.level();
-
-            for (int dx = -6; dx <= 6; dx++) {
-                for (int dz = -6; dz <= 6; dz++) {
-                    nearChunkKeys.add(new ChunkKey(level, chunkX + dx, chunkZ + dz));
-                }
-            }
-
-            for (int dx = -12; dx <= 12; dx++) {
-                for (int dz = -12; dz <= 12; dz++) {
-                    if (Math.abs(dx) <= 6 && Math.abs(dz) <= 6) {
-                        continue;
-                    }
-                    farChunkKeys.add(new ChunkKey(level, chunkX + dx, chunkZ + dz));
-                }
-            }
-        }
+        Set<ChunkKey> readyChunkKeys = new LinkedHashSet<>();
+        Set<ChunkKey> backgroundChunkKeys = new LinkedHashSet<>();
+        collectPreloadChunks(targets, readyChunkKeys, backgroundChunkKeys);
 
-        int totalNearChunks = nearChunkKeys.size();
-        int totalFarChunks = farChunkKeys.size();
-        int totalChunks = totalNearChunks + totalFarChunks;
+        int totalReadyChunks = readyChunkKeys.size();
+        int totalBackgroundChunks = backgroundChunkKeys.size();
         AtomicInteger totalLoaded = new AtomicInteger(0);
 
         MinecraftServer server = targets.get(0).level().getServer();
@@ -397,19 +401,19 @@ public class TeleportService {
             if (cancelled) {
                 return;
             }
-            updateLoadingBossBar(0, totalChunks);
+            updateLoadingBossBar(0, totalReadyChunks);
             if (debugEnabled) {
                 for (ServerPlayer player : players) {
                     LanguageService.Language lang = languageService.getLanguage(player);
                     player.sendSystemMessage(Component.empty()
                             .append(Messages.get(lang, Messages.MessageKey.LOADING_NEAR_CHUNKS))
-                            .append(Component.literal(String.valueOf(totalNearChunks)).withStyle(net.minecraft.ChatFormatting.WHITE))
+                            .append(Component.literal(String.valueOf(totalReadyChunks)).withStyle(net.minecraft.ChatFormatting.WHITE))
                             .append(Messages.get(lang, Messages.MessageKey.CHUNKS_TEXT)));
                 }
             }
         });
 
-        return preloadChunkSet(nearChunkKeys, totalNearChunks, totalLoaded, totalChunks, server, players)
+        return preloadChunkSet(readyChunkKeys, totalReadyChunks, totalLoaded, totalReadyChunks, server, players, null)
                 .thenRun(() -> server.execute(() -> {
                     if (cancelled) {
                         return;
@@ -420,36 +424,127 @@ public class TeleportService {
                             player.sendSystemMessage(Component.empty()
                                     .append(Messages.get(lang, Messages.MessageKey.NEAR_CHUNKS_LOADED))
                                     .append(Messages.get(lang, Messages.MessageKey.LOADING_FAR_CHUNKS))
-                                    .append(Component.literal(String.valueOf(totalFarChunks)).withStyle(net.minecraft.ChatFormatting.WHITE))
+                                    .append(Component.literal(String.valueOf(totalBackgroundChunks)).withStyle(net.minecraft.ChatFormatting.WHITE))
                                     .append(Messages.get(lang, Messages.MessageKey.CHUNKS_TEXT)));
                         }
                     }
-                }))
-                .thenCompose(ignored -> {
-                    if (cancelled) {
-                        return CompletableFuture.completedFuture(null);
-                    }
-
-                    return preloadChunkSet(farChunkKeys, totalFarChunks, totalLoaded, totalChunks, server, players)
+                    preloadChunkSet(backgroundChunkKeys, totalBackgroundChunks, new AtomicInteger(), 0, server, players, null)
                             .thenRun(() -> server.execute(() -> {
-                                if (cancelled) {
+                                if (cancelled || !debugEnabled) {
                                     return;
                                 }
-                                updateLoadingBossBar(totalChunks, totalChunks);
-                                if (debugEnabled) {
-                                    for (ServerPlayer player : players) {
-                                        LanguageService.Language lang = languageService.getLanguage(player);
-                                        player.sendSystemMessage(Component.empty()
-                                                .append(Messages.get(lang, Messages.MessageKey.ALL_CHUNKS_LOADED))
-                                                .append(Messages.get(lang, Messages.MessageKey.CHUNKS_COUNT, totalChunks)));
-                                    }
+                                for (ServerPlayer player : players) {
+                                    LanguageService.Language lang = languageService.getLanguage(player);
+                                    player.sendSystemMessage(Component.empty()
+                                            .append(Messages.get(lang, Messages.MessageKey.ALL_CHUNKS_LOADED))
+                                            .append(Messages.get(lang, Messages.MessageKey.CHUNKS_COUNT, totalReadyChunks + totalBackgroundChunks)));
                                 }
                             }));
-                });
+                }));
+    }
+
+    private CompletableFuture<Void> streamPlayers(List<PlayerScatterTarget> targets) {
+        if (cancelled || targets.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Set<ChunkKey> readyChunkKeys = new LinkedHashSet<>();
+        Set<ChunkKey> backgroundChunkKeys = new LinkedHashSet<>();
+        collectPreloadChunks(targets, readyChunkKeys, backgroundChunkKeys);
+
+        int totalReadyChunks = readyChunkKeys.size();
+        int totalChunks = totalReadyChunks + backgroundChunkKeys.size();
+        int readySide = readyRadius * 2 + 1;
+        int[] remaining = new int[targets.size()];
+        Arrays.fill(remaining, readySide * readySide);
+        AtomicInteger totalLoaded = new AtomicInteger(0);
+        CompletableFuture<Void> background = new CompletableFuture<>();
+        backgroundPreload = background;
+
+        MinecraftServer server = targets.get(0).level().getServer();
+        List<ServerPlayer> players = resolvePlayers(server, targets);
+        server.execute(() -> {
+            if (!cancelled) {
+                updateLoadingBossBar(0, totalChunks);
+            }
+        });
+
+        return preloadChunkSet(readyChunkKeys, totalReadyChunks, totalLoaded, totalChunks, server, players, key -> {
+            for (int i = 0; i < targets.size(); i++) {
+                PlayerScatterTarget target = targets.get(i);
+                if (remaining[i] <= 0 || target.level() != key.level()
+                        || Math.abs((target.location().getX() >> 4) - key.x()) > readyRadius
+                        || Math.abs((target.location().getZ() >> 4) - key.z()) > readyRadius) {
+                    continue;
+                }
+                if (--remaining[i] == 0) {
+                    teleportTarget(server, target);
+                }
+            }
+        }).thenRun(() -> server.execute(() -> {
+            if (cancelled) {
+                background.complete(null);
+                return;
+            }
+            for (int i = 0; i < targets.size(); i++) {
+                if (remaining[i] > 0) {
+                    remaining[i] = 0;
+                    teleportTarget(server, targets.get(i));
+                }
+            }
+            preloadChunkSet(backgroundChunkKeys, backgroundChunkKeys.size(), totalLoaded, totalChunks, server, players, null)
+                    .whenComplete((ignored, throwable) -> background.complete(null));
+        }));
+    }
+
+    private void teleportTarget(MinecraftServer server, PlayerScatterTarget target) {
+        ServerPlayer player = server.getPlayerList().getPlayer(target.playerId());
+        if (player != null && !player.isRemoved()) {
+            teleportPlayer(player, target.location());
+        }
+    }
+
+    private void collectPreloadChunks(List<PlayerScatterTarget> targets, Set<ChunkKey> readyChunkKeys, Set<ChunkKey> backgroundChunkKeys) {
+        for (int radius = 0; radius <= PRELOAD_RADIUS; radius++) {
+            for (PlayerScatterTarget target : targets) {
+                BlockPos loc = target.location();
+                if (radius <= readyRadius) {
+                    addRing(readyChunkKeys, target.level(), loc.getX() >> 4, loc.getZ() >> 4, radius, null);
+                } else {
+                    addRing(backgroundChunkKeys, target.level(), loc.getX() >> 4, loc.getZ() >> 4, radius, readyChunkKeys);
+                }
+            }
+        }
+    }
+
+    private void addRing(Set<ChunkKey> chunkKeys, ServerLevel level, int centerX, int centerZ, int radius, Set<ChunkKey> exclude) {
+        if (radius == 0) {
+            addChunk(chunkKeys, new ChunkKey(level, centerX, centerZ), exclude);
+            return;
+        }
+        for (int dx = -radius; dx <= radius; dx++) {
+            addChunk(chunkKeys, new ChunkKey(level, centerX + dx, centerZ - radius), exclude);
+        }
+        for (int dz = -radius + 1; dz <= radius; dz++) {
+            addChunk(chunkKeys, new ChunkKey(level, centerX + radius, centerZ + dz), exclude);
+        }
+        for (int dx = radius - 1; dx >= -radius; dx--) {
+            addChunk(chunkKeys, new ChunkKey(level, centerX + dx, centerZ + radius), exclude);
+        }
+        for (int dz = radius - 1; dz > -radius; dz--) {
+            addChunk(chunkKeys, new ChunkKey(level, centerX - radius, centerZ + dz), exclude);
+        }
+    }
+
+    private void addChunk(Set<ChunkKey> chunkKeys, ChunkKey key, Set<ChunkKey> exclude) {
+        if (exclude == null || !exclude.contains(key)) {
+            chunkKeys.add(key);
+        }
     }
 
     private CompletableFuture<Void> preloadChunkSet(Set<ChunkKey> chunkKeys, int totalChunks, AtomicInteger totalLoaded,
-                                                    int totalAllChunks, MinecraftServer server, List<ServerPlayer> players) {
+                                                    int totalAllChunks, MinecraftServer server, List<ServerPlayer> players,
+                                                    Consumer<ChunkKey> onLoaded) {
         if (cancelled || chunkKeys.isEmpty()) {
             return CompletableFuture.completedFuture(null);
         }
@@ -470,7 +565,10 @@ public class TeleportService {
                     doneFuture.complete(null);
                     return;
                 }
-                while (inFlight.get() < MAX_PARALLEL_CHUNK_LOADS) {
+                int limit = server.getAverageTickTimeNanos() > chunkLoadTargetNanos
+                        ? Math.max(1, maxParallelChunkLoads / 4)
+                        : maxParallelChunkLoads;
+                while (inFlight.get() < limit) {
                     ChunkKey key = queue.poll();
                     if (key == null) {
                         if (inFlight.get() == 0) {
@@ -487,7 +585,14 @@ public class TeleportService {
                                 int count = loadedCounter.incrementAndGet();
                                 int loaded = totalLoaded.incrementAndGet();
                                 server.execute(() -> {
-                                    if (cancelled || doneFuture.isDone()) {
+                                    if (cancelled) {
+                                        return;
+                                    }
+                                    chunkTicketService.pin(key.level(), key.x(), key.z());
+                                    if (onLoaded != null) {
+                                        onLoaded.accept(key);
+                                    }
+                                    if (doneFuture.isDone()) {
                                         return;
                                     }
                                     updateLoadingBossBar(loaded, totalAllChunks);
@@ -574,13 +679,8 @@ public class TeleportService {
         player.sendSystemMessage(Messages.get(lang, Messages.MessageKey.TELEPORTED_TO, formatLocation(pos)));
     }
 
-    private boolean isSafeFloor(BlockState state) {
-        return state.isSolidRender() && !UNSAFE_FLOOR_BLOCKS.contains(state.getBlock());
-    }
-
-    private boolean isPassable(ServerLevel level, BlockPos pos) {
-        BlockState state = level.getBlockState(pos);
-        return state.isAir() || state.getCollisionShape(level, pos).isEmpty();
+    private String blockName(BlockState state) {
+        return state == null ? "?" : state.getBlock().getName().getString();
     }
 
     private BlockPos fallbackRandomLocation(ServerLevel level) {
@@ -589,28 +689,6 @@ public class TeleportService {
         return spawn.offset(offset, 0, offset);
     }
 
-    private int randomCoordinate() {
-        int range = maxScatterCoord - minScatterCoord;
-        if (range <= 0) range = 1;
-        int base = minScatterCoord + random.nextInt(range + 1);
-        return random.nextBoolean() ? base : -base;
-    }
-
-    private boolean isFarEnough(ServerLevel level, int x, int z, List<ScatterLocation> existingLocations) {
-        long minDistanceSq = (long) MIN_PLAYER_DISTANCE * (long) MIN_PLAYER_DISTANCE;
-        for (ScatterLocation existing : existingLocations) {
-            if (existing.level() != level) {
-                continue;
-            }
-            double dx = existing.pos().getX() - x;
-            double dz = existing.pos().getZ() - z;
-            if ((dx * dx) + (dz * dz) < minDistanceSq) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     private Map<LanguageService.Language, ServerBossEvent> createScatterBossBar(Collection<? extends ServerPlayer> viewers, int totalPlayers) {
         Map<LanguageService.Language, ServerBossEvent> bars = new HashMap<>();
 
@@ -772,9 +850,6 @@ public class TeleportService {
     private record PlayerScatterTarget(UUID playerId, ServerLevel level, BlockPos location) {
     }
 
-    private record ScatterLocation(ServerLevel level, BlockPos pos) {
-    }
-
     private record ChunkKey(ServerLevel level, int x, int z) {
     }
 }
@@ -2,14 +2,21 @@ package net.dagger.lootrush.service;
 
 import net.dagger.lootrush.game.GameState;
 import net.minecraft.server.ServerScoreboard;
-import net.minecraft.server.level.ServerPlayer;
-
-import java.util.Collection;
 
 public class TimerService {
+    private static final String[] TWO_DIGITS = new String[60];
+
+    static {
+        for (int i = 0; i < TWO_DIGITS.length; i++) {
+            TWO_DIGITS[i] = i < 10 ? "0" + i : Integer.toString(i);
+        }
+    }
+
     private final ScoreboardService scoreboardService;
     private long gameStartTime;
     private GameState currentState;
+    private long lastElapsedSeconds = -1;
+
     public TimerService(ScoreboardService scoreboardService) {
         this.scoreboardService = scoreboardService;
     }
@@ -17,20 +24,26 @@ public class TimerService {
     public void start(long startTime, GameState state) {
         this.gameStartTime = startTime;
         this.currentState = state;
+        this.lastElapsedSeconds = -1;
     }
 
-    public void tick(ServerScoreboard scoreboard, Collection<ServerPlayer> viewers) {
+    public void tick(ServerScoreboard scoreboard) {
         if (currentState != GameState.ACTIVE || scoreboard == null) {
             return;
         }
 
-        long elapsed = System.currentTimeMillis() - gameStartTime;
-        long seconds = elapsed / 1000;
-        long minutes = seconds / 60;
-        seconds = seconds % 60;
+        long elapsedSeconds = (System.currentTimeMillis() - gameStartTime) / 1000;
+        if (elapsedSeconds == lastElapsedSeconds) {
+            return;
+        }
+        lastElapsedSeconds = elapsedSeconds;
+        scoreboardService.updateTimer(scoreboard, formatElapsed(elapsedSeconds));
+    }
 
-        String timeString = String.format("%02d:%02d", minutes, seconds);
-        scoreboardService.updateTimer(scoreboard, timeString, viewers);
+    static String formatElapsed(long elapsedSeconds) {
+        long minutes = elapsedSeconds / 60;
+        String minutesString = minutes < TWO_DIGITS.length ? TWO_DIGITS[(int) minutes] : Long.toString(minutes);
+        return minutesString + ":" + TWO_DIGITS[(int) (elapsedSeconds % 60)];
     }
 
     public void updateState(GameState state) {
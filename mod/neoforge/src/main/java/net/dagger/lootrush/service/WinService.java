@@ -1,46 +1,162 @@
 package net.dagger.lootrush.service;
 
 import net.dagger.lootrush.game.Role;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.EquipmentSlot;
-import net.minecraft.world.item.Item;
+import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.item.ItemStack;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class
 WinService {
+    private static final int DIGEST_MAX_SWEEPS = 6;
+
     private final RoleService roleService;
+    private final boolean countNested;
+    private final NestedContentsIndex nestedIndex = new NestedContentsIndex();
+    private final Set<UUID> dirtyPlayers = new HashSet<>();
+    private final Map<UUID, InventoryDigest> digests = new HashMap<>();
+    private final Map<UUID, BitSet> heldItems = new HashMap<>();
+    private int sweep;
 
-    public WinService(RoleService roleService) {
+    public WinService(RoleService roleService, boolean countNested) {
         this.roleService = roleService;
+        this.countNested = countNested;
     }
 
-    public boolean hasTargetItem(ServerPlayer player, Item targetItem) {
-        if (targetItem == null) {
+    public boolean hasTargetItem(ServerPlayer player, RoundTarget target) {
+        if (target == null) {
             return false;
         }
+        Inventory inventory = player.getInventory();
+        BitSet held = scanInventory(player);
+        heldItems.put(player.getUUID(), held);
+        digests.put(player.getUUID(), new InventoryDigest(inventory, inventory.getTimesChanged(), target, sweep));
+        return target.isSatisfiedBy(held);
+    }
+
+    public boolean mightHaveTarget(ServerPlayer player, RoundTarget target) {
+        BitSet held = heldItems.get(player.getUUID());
+        return held == null || target.isSatisfiedBy(held);
+    }
+
+    public void noteItem(ServerPlayer player, ItemStack stack) {
+        BitSet held = heldItems.get(player.getUUID());
+        if (held != null) {
+            markHeld(held, stack);
+        }
+    }
+
+    private BitSet scanInventory(ServerPlayer player) {
+        BitSet held = new BitSet();
         for (ItemStack stack : player.getInventory().getNonEquipmentItems()) {
-            if (!stack.isEmpty() && stack.is(targetItem)) {
-                return true;
-            }
+            markHeld(held, stack);
         }
         for (EquipmentSlot slot : new EquipmentSlot[]{
                 EquipmentSlot.HEAD, EquipmentSlot.CHEST, EquipmentSlot.LEGS, EquipmentSlot.FEET, EquipmentSlot.OFFHAND
         }) {
-            ItemStack stack = player.getItemBySlot(slot);
-            if (!stack.isEmpty() && stack.is(targetItem)) {
-                return true;
-            }
+            markHeld(held, player.getItemBySlot(slot));
+        }
+        return held;
+    }
+
+    private void markHeld(BitSet held, ItemStack stack) {
+        if (!stack.isEmpty()) {
+            held.set(BuiltInRegistries.ITEM.getId(stack.getItem()));
+        }
+        if (countNested && NestedContentsIndex.isContainer(stack)) {
+            held.or(nestedIndex.contents(stack));
+        }
+    }
+
+    public boolean isCountingNested() {
+        return countNested;
+    }
+
+    public void beginSweep() {
+        sweep++;
+    }
+
+    public boolean isUnchanged(ServerPlayer player, RoundTarget target) {
+        InventoryDigest digest = digests.get(player.getUUID());
+        return digest != null && digest.target() == target && isFresh(digest, player);
+    }
+
+    private boolean isFresh(InventoryDigest digest, ServerPlayer player) {
+        Inventory inventory = player.getInventory();
+        return digest.inventory() == inventory
+                && digest.timesChanged() == inventory.getTimesChanged()
+                && sweep - digest.sweep() < DIGEST_MAX_SWEEPS;
+    }
+
+    public void invalidate(ServerPlayer player) {
+        digests.remove(player.getUUID());
+    }
+
+    public void removePlayer(ServerPlayer player) {
+        digests.remove(player.getUUID());
+        heldItems.remove(player.getUUID());
+        dirtyPlayers.remove(player.getUUID());
+    }
+
+    public void clear() {
+        digests.clear();
+        heldItems.clear();
+        dirtyPlayers.clear();
+    }
+
+    public void markDirty(ServerPlayer player) {
+        invalidate(player);
+        dirtyPlayers.add(player.getUUID());
+    }
+
+    public List<UUID> drainDirty() {
+        if (dirtyPlayers.isEmpty()) {
+            return List.of();
         }
-        return false;
+        List<UUID> drained = new ArrayList<>(dirtyPlayers);
+        dirtyPlayers.clear();
+        return drained;
     }
 
-    public void removeTargetItemFromPlayers(Collection<? extends ServerPlayer> players, Item targetItem) {
+    public void removeTargetItemFromPlayers(Collection<? extends ServerPlayer> players, RoundTarget target) {
+        List<ServerPlayer> touched = new ArrayList<>();
         for (ServerPlayer player : players) {
-            player.getInventory().clearOrCountMatchingItems(stack -> stack.is(targetItem), -1, player.inventoryMenu.getCraftSlots());
+            player.inventoryMenu.broadcastChanges();
+            if (player.containerMenu != player.inventoryMenu) {
+                player.containerMenu.broadcastChanges();
+            }
+            BitSet held = heldItems.get(player.getUUID());
+            if (held != null && !target.intersects(held)) {
+                continue;
+            }
+            Inventory inventory = player.getInventory();
+            int removed = inventory.clearOrCountMatchingItems(target::contains, -1, player.inventoryMenu.getCraftSlots());
+            if (countNested) {
+                for (int slot = 0; slot < inventory.getContainerSize(); slot++) {
+                    if (nestedIndex.removeNested(inventory.getItem(slot), target)) {
+                        removed++;
+                    }
+                }
+            }
+            invalidate(player);
+            if (removed > 0) {
+                inventory.setChanged();
+                touched.add(player);
+            }
+        }
+        for (ServerPlayer player : touched) {
             player.containerMenu.broadcastChanges();
         }
     }
@@ -50,4 +166,7 @@ WinService {
                 .filter(p -> roleService.getRole(p) == Role.PLAYER && p.isAlive())
                 .collect(Collectors.toList());
     }
+
+    private record InventoryDigest(Inventory inventory, int timesChanged, RoundTarget target, int sweep) {
+    }
 }
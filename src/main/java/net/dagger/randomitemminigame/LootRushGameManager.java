@@ -2,14 +2,26 @@ package net.dagger.randomitemminigame;
 
 import net.dagger.randomitemminigame.game.GameState;
 import net.dagger.randomitemminigame.game.Role;
+import net.dagger.randomitemminigame.service.BiomeFilterService;
+import net.dagger.randomitemminigame.service.ChunkLoadScheduler;
+import net.dagger.randomitemminigame.service.ChunkResendService;
+import net.dagger.randomitemminigame.service.ChunkTicketService;
 import net.dagger.randomitemminigame.service.CommandService;
 import net.dagger.randomitemminigame.service.GameInfoService;
 import net.dagger.randomitemminigame.service.ItemService;
 import net.dagger.randomitemminigame.service.LanguageService;
 import net.dagger.randomitemminigame.service.LivesService;
+import net.dagger.randomitemminigame.service.LocationProbeService;
 import net.dagger.randomitemminigame.service.Messages;
+import net.dagger.randomitemminigame.service.NestedContentsIndex;
+import net.dagger.randomitemminigame.service.ProbeFeedbackService;
+import net.dagger.randomitemminigame.service.ProbeIndexService;
+import net.dagger.randomitemminigame.service.RoundSettings;
+import net.dagger.randomitemminigame.service.RoundTarget;
 import net.dagger.randomitemminigame.service.RoleService;
+import net.dagger.randomitemminigame.service.ScatterSettings;
 import net.dagger.randomitemminigame.service.ScoreboardService;
+import net.dagger.randomitemminigame.service.SpawnPoolService;
 import net.dagger.randomitemminigame.service.SwapService;
 import net.dagger.randomitemminigame.service.TeleportService;
 import net.dagger.randomitemminigame.service.TimerService;
@@ -20,7 +32,6 @@ import net.kyori.adventure.text.format.NamedTextColor;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.SoundCategory;
 import org.bukkit.World;
@@ -31,11 +42,17 @@ import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.FurnaceExtractEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
@@ -43,16 +60,26 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitRunnable;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 public class LootRushGameManager implements Listener, CommandExecutor, TabCompleter {
 	private static final int COUNTDOWN_SECONDS = 10;
+	private static final int SAFETY_SCAN_SECONDS = 5;
 
 	private final JavaPlugin plugin;
 	private final LanguageService languageService;
 	private final RoleService roleService;
 	private final TeleportService teleportService;
+	private final SpawnPoolService spawnPoolService;
+	private final ProbeIndexService probeIndexService;
+	private final LocationProbeService locationProbeService;
+	private final ChunkTicketService chunkTicketService;
+	private final ChunkResendService chunkResendService;
+	private final ProbeFeedbackService probeFeedbackService;
 	private final SwapService swapService;
 	private final ItemService itemService;
 	private final LivesService livesService;
@@ -65,26 +92,37 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 	private boolean debugEnabled = false;
 
 	private GameState state = GameState.IDLE;
-	private Material targetItem;
+	private RoundTarget roundTarget;
 	private BukkitRunnable countdownTask;
 	private BukkitRunnable monitorTask;
 
-	public LootRushGameManager(JavaPlugin plugin, List<String> bannedItems, int swapIntervalSeconds, int minScatterCoord, int maxScatterCoord) {
+	public LootRushGameManager(JavaPlugin plugin, List<String> bannedItems, int swapIntervalSeconds, ScatterSettings scatterSettings,
+			RoundSettings roundSettings) {
 		this.plugin = plugin;
 		this.languageService = new LanguageService();
 		this.roleService = new RoleService(languageService);
-		this.itemService = new ItemService(bannedItems);
+		this.itemService = new ItemService(bannedItems, roundSettings);
 		this.livesService = new LivesService();
-		this.scoreboardService = new ScoreboardService(languageService);
+		this.scoreboardService = new ScoreboardService(plugin, languageService);
+		this.livesService.setListener(scoreboardService::onLivesChanged);
 		this.timerService = new TimerService(plugin, scoreboardService);
-		this.winService = new WinService(roleService);
+		this.winService = new WinService(roleService, roundSettings.countNested());
 		this.worldService = new WorldService();
-		this.gameInfoService = new GameInfoService(languageService);
-		this.teleportService = new TeleportService(plugin, languageService, this::broadcastToParticipants, minScatterCoord, maxScatterCoord);
+		this.gameInfoService = new GameInfoService(plugin, languageService);
+		this.probeIndexService = new ProbeIndexService(plugin);
+		this.chunkTicketService = new ChunkTicketService(plugin, scatterSettings);
+		this.chunkResendService = new ChunkResendService(plugin, scatterSettings);
+		this.probeFeedbackService = new ProbeFeedbackService(plugin, languageService);
+		ChunkLoadScheduler chunkLoadScheduler = new ChunkLoadScheduler(scatterSettings);
+		this.locationProbeService = new LocationProbeService(plugin, probeIndexService, new BiomeFilterService(scatterSettings),
+				chunkLoadScheduler, scatterSettings);
+		this.spawnPoolService = new SpawnPoolService(plugin, locationProbeService, probeIndexService, () -> state == GameState.IDLE, scatterSettings);
+		this.teleportService = new TeleportService(plugin, languageService, this::broadcastToParticipants,
+				locationProbeService, spawnPoolService, chunkLoadScheduler, chunkTicketService, chunkResendService, probeFeedbackService, scatterSettings);
 		this.swapService = new SwapService(
 				plugin,
 				languageService,
-				() -> state == GameState.ACTIVE && targetItem != null,
+				() -> state == GameState.ACTIVE && roundTarget != null,
 				this::getActiveParticipants,
 				this::broadcastToParticipants,
 				gameInfoService::setProgress,
@@ -95,9 +133,22 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 				this::handleStop,
 				this::handleStatus,
 				this::handleSkip,
-				this::handleDebug,
+				args -> handleDebug(args.sender, args.args),
 				args -> handleRole(args.sender, args.args),
 				args -> handleLang(args.sender, args.args));
+		probeIndexService.load();
+		spawnPoolService.start();
+		chunkResendService.start();
+		probeFeedbackService.start();
+	}
+
+	public void shutdown() {
+		spawnPoolService.stop();
+		chunkResendService.stop();
+		probeFeedbackService.stop();
+		locationProbeService.shutdown();
+		chunkTicketService.releaseAll();
+		probeIndexService.flush();
 	}
 
 	@Override
@@ -130,7 +181,7 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 			return;
 		}
 
-		targetItem = itemService.pickRandomItem();
+		roundTarget = itemService.pickRoundTarget();
 		state = GameState.COUNTDOWN;
 		roleService.prepareSpectators(spectators);
 		worldService.setWorldStateForLoading();
@@ -148,13 +199,13 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 			LanguageService.Language playerLang = languageService.getLanguage(player);
 			player.sendMessage(Component.text()
 					.append(Messages.get(playerLang, Messages.MessageKey.NEED_TO_OBTAIN))
-					.append(formatMaterial(targetItem).color(NamedTextColor.AQUA))
+					.append(roundTarget.describe(playerLang).color(NamedTextColor.AQUA))
 					.build());
 		}
 		LanguageService.Language defaultLang = languageService.getDefaultLanguage();
 		Bukkit.getConsoleSender().sendMessage(Component.text()
 				.append(Messages.get(defaultLang, Messages.MessageKey.NEED_TO_OBTAIN))
-				.append(formatMaterial(targetItem).color(NamedTextColor.AQUA))
+				.append(roundTarget.describe(defaultLang).color(NamedTextColor.AQUA))
 				.build());
 		playSoundForAll(Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 1.0f);
 
@@ -162,7 +213,9 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 		livesService.initializeLives(participantsSnapshot);
 		scoreboardService.createScoreboard(livesService.getAllLives());
 
+		chunkTicketService.releaseAll();
 		teleportService.scatterPlayers(participantsSnapshot).whenComplete((ignored, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> {
+			probeIndexService.flush();
 			if (throwable != null) {
 				plugin.getLogger().severe("Не удалось телепортировать игроков: " + throwable.getMessage());
 				handleStop(sender);
@@ -173,10 +226,10 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 				return;
 			}
 
-			winService.removeTargetItemFromPlayers(participantsSnapshot, targetItem);
+			winService.removeTargetItemFromPlayers(participantsSnapshot, roundTarget);
 			worldService.setWorldStateActive();
 			worldService.resetBorder();
-			gameInfoService.showTargetItem(targetItem);
+			gameInfoService.showTarget(roundTarget);
 			startCountdown();
 		}));
 	}
@@ -194,12 +247,14 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 		timerService.updateState(GameState.IDLE);
 		swapService.stop();
 		teleportService.cancel();
+		chunkTicketService.releaseAll();
 		livesService.clear();
 		scoreboardService.clear();
+		winService.clear();
 		clearAllPlayerInventories();
 		clearAllPlayerRespawns();
 		state = GameState.IDLE;
-		targetItem = null;
+		roundTarget = null;
 		gameInfoService.hide();
 		worldService.setWorldStateAfterGame();
 		worldService.resetBorder();
@@ -213,30 +268,30 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 			return;
 		}
 
-		if (targetItem == null) {
+		if (roundTarget == null) {
 			sender.sendMessage(Messages.get(lang, Messages.MessageKey.NO_CURRENT_ITEM));
 			return;
 		}
 
-		targetItem = itemService.pickRandomItem();
-		gameInfoService.updateTargetItem(targetItem);
+		roundTarget = itemService.pickRoundTarget();
+		gameInfoService.updateTarget(roundTarget);
 
 		List<Player> participants = winService.getAlivePlayers();
-		winService.removeTargetItemFromPlayers(participants, targetItem);
+		winService.removeTargetItemFromPlayers(participants, roundTarget);
 
 		for (Player player : Bukkit.getOnlinePlayers()) {
 			LanguageService.Language playerLang = languageService.getLanguage(player);
 			player.sendMessage(Component.text()
 					.append(Messages.get(playerLang, Messages.MessageKey.ITEM_SKIPPED))
 					.append(Messages.get(playerLang, Messages.MessageKey.NEW_ITEM))
-					.append(formatMaterial(targetItem).color(NamedTextColor.AQUA))
+					.append(roundTarget.describe(playerLang).color(NamedTextColor.AQUA))
 					.build());
 		}
 		LanguageService.Language defaultLang = languageService.getDefaultLanguage();
 		Bukkit.getConsoleSender().sendMessage(Component.text()
 				.append(Messages.get(defaultLang, Messages.MessageKey.ITEM_SKIPPED))
 				.append(Messages.get(defaultLang, Messages.MessageKey.NEW_ITEM))
-				.append(formatMaterial(targetItem).color(NamedTextColor.AQUA))
+				.append(roundTarget.describe(defaultLang).color(NamedTextColor.AQUA))
 				.build());
 
 		if (monitorTask != null && !monitorTask.isCancelled()) {
@@ -250,17 +305,37 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 		} else if (state == GameState.COUNTDOWN) {
 			sender.sendMessage(Component.text()
 					.append(Messages.get(lang, Messages.MessageKey.COUNTDOWN_IN_PROGRESS))
-					.append(formatMaterial(targetItem).color(NamedTextColor.AQUA))
+					.append(roundTarget.describe(lang).color(NamedTextColor.AQUA))
 					.build());
 		} else {
 			sender.sendMessage(Component.text()
 					.append(Messages.get(lang, Messages.MessageKey.GAME_ACTIVE))
-					.append(formatMaterial(targetItem).color(NamedTextColor.AQUA))
+					.append(roundTarget.describe(lang).color(NamedTextColor.AQUA))
 					.build());
 		}
 	}
 
-	private void handleDebug(CommandSender sender) {
+	private void handleDebug(CommandSender sender, String[] args) {
+		if (args.length >= 2 && "tickets".equalsIgnoreCase(args[1])) {
+			LanguageService.Language lang = getLanguage(sender);
+			sender.sendMessage(Messages.get(lang, Messages.MessageKey.DEBUG_TICKETS, chunkTicketService.getPinnedChunks(),
+					chunkTicketService.getPinnedWorlds(), chunkTicketService.getEstimatedBytes() / (1024L * 1024L)));
+			return;
+		}
+		if (args.length >= 2 && "dump".equalsIgnoreCase(args[1])) {
+			LanguageService.Language lang = getLanguage(sender);
+			List<ProbeFeedbackService.Entry> history = probeFeedbackService.getHistory();
+			if (history.isEmpty()) {
+				sender.sendMessage(Messages.get(lang, Messages.MessageKey.DEBUG_DUMP_EMPTY));
+				return;
+			}
+			sender.sendMessage(Messages.get(lang, Messages.MessageKey.DEBUG_DUMP_HEADER, history.size()));
+			for (ProbeFeedbackService.Entry entry : history) {
+				sender.sendMessage(Messages.get(lang, entry.key(), entry.args()));
+			}
+			return;
+		}
+
 		debugEnabled = !debugEnabled;
 		teleportService.setDebugEnabled(debugEnabled);
 		LanguageService.Language lang = getLanguage(sender);
@@ -403,6 +478,7 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 	public void onPlayerQuit(PlayerQuitEvent event) {
 		gameInfoService.removePlayer(event.getPlayer());
 		scoreboardService.removePlayer(event.getPlayer());
+		winService.removePlayer(event.getPlayer());
 	}
 
 	@EventHandler
@@ -457,9 +533,75 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 			return;
 		}
 
-		org.bukkit.inventory.ItemStack stack = event.getItem().getItemStack();
-		if (targetItem != null && stack.getType() == targetItem) {
-			handlePotentialWin(player);
+		touchInventory(player, event.getItem().getItemStack());
+	}
+
+	@EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+	public void onCraftItem(CraftItemEvent event) {
+		if (event.getWhoClicked() instanceof Player player) {
+			touchInventory(player, event.getRecipe().getResult());
+		}
+	}
+
+	@EventHandler(priority = EventPriority.MONITOR)
+	public void onFurnaceExtract(FurnaceExtractEvent event) {
+		touchInventory(event.getPlayer(), new ItemStack(event.getItemType(), event.getItemAmount()));
+	}
+
+	@EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+	public void onInventoryClick(InventoryClickEvent event) {
+		if (!(event.getWhoClicked() instanceof Player player)) {
+			return;
+		}
+		ItemStack hotbarItem = event.getHotbarButton() >= 0 ? player.getInventory().getItem(event.getHotbarButton()) : null;
+		touchInventory(player, event.getCurrentItem(), event.getCursor(), hotbarItem);
+	}
+
+	@EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+	public void onInventoryDrag(InventoryDragEvent event) {
+		if (event.getWhoClicked() instanceof Player player) {
+			touchInventory(player, event.getOldCursor());
+		}
+	}
+
+	@EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+	public void onInventoryMoveItem(InventoryMoveItemEvent event) {
+		if (event.getDestination().getHolder() instanceof Player player) {
+			touchInventory(player, event.getItem());
+		}
+	}
+
+	private boolean isTargetStack(ItemStack stack) {
+		return roundTarget != null && stack != null
+				&& (roundTarget.contains(stack.getType()) || winService.isCountingNested() && NestedContentsIndex.isContainer(stack));
+	}
+
+	private void touchInventory(Player player, ItemStack... stacks) {
+		boolean targetChanged = false;
+		for (ItemStack stack : stacks) {
+			winService.noteItem(player, stack);
+			targetChanged |= isTargetStack(stack);
+		}
+		if (targetChanged) {
+			markInventoryDirty(player);
+		}
+	}
+
+	private void markInventoryDirty(Player player) {
+		if (state != GameState.ACTIVE || roundTarget == null) {
+			return;
+		}
+		if (winService.markDirty(player)) {
+			Bukkit.getScheduler().runTask(plugin, this::checkDirtyInventories);
+		}
+	}
+
+	private void checkDirtyInventories() {
+		for (UUID playerId : winService.drainDirty()) {
+			Player player = Bukkit.getPlayer(playerId);
+			if (player != null && player.isOnline() && winService.mightHaveTarget(player, roundTarget) && handlePotentialWin(player)) {
+				return;
+			}
 		}
 	}
 
@@ -477,8 +619,6 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 		int lives = livesService.decreaseLives(player);
 		LanguageService.Language lang = languageService.getLanguage(player);
 
-		scoreboardService.updateAllPlayersLives(livesService.getAllLives());
-
 		if (!livesService.hasLives(player)) {
 			roleService.setRole(player, Role.SPECTATOR);
 			player.sendMessage(Messages.get(lang, Messages.MessageKey.NO_LIVES_LEFT));
@@ -501,15 +641,16 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 						LanguageService.Language playerLang = languageService.getLanguage(player);
 						player.sendMessage(Component.text()
 								.append(Messages.get(playerLang, Messages.MessageKey.START_GOOD_LUCK))
-								.append(formatMaterial(targetItem).color(NamedTextColor.AQUA))
+								.append(roundTarget.describe(playerLang).color(NamedTextColor.AQUA))
 								.build());
 					}
 					LanguageService.Language defaultLang = languageService.getDefaultLanguage();
 					Bukkit.getConsoleSender().sendMessage(Component.text()
 							.append(Messages.get(defaultLang, Messages.MessageKey.START_GOOD_LUCK))
-							.append(formatMaterial(targetItem).color(NamedTextColor.AQUA))
+							.append(roundTarget.describe(defaultLang).color(NamedTextColor.AQUA))
 							.build());
 					state = GameState.ACTIVE;
+					chunkTicketService.releaseLater();
 					long gameStartTime = System.currentTimeMillis();
 					timerService.updateState(state);
 					timerService.start(gameStartTime, state);
@@ -530,15 +671,20 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 	private void startMonitorTask() {
 		cancelMonitor();
 		monitorTask = new BukkitRunnable() {
+			private int secondsUntilScan = 0;
+
 			@Override
 			public void run() {
-				if (state != GameState.ACTIVE || targetItem == null) {
+				if (state != GameState.ACTIVE || roundTarget == null) {
 					return;
 				}
 
-				for (Player player : Bukkit.getOnlinePlayers()) {
-					if (handlePotentialWin(player)) {
-						break;
+				if (--secondsUntilScan <= 0) {
+					secondsUntilScan = SAFETY_SCAN_SECONDS;
+					for (Player player : Bukkit.getOnlinePlayers()) {
+						if (handlePotentialWin(player)) {
+							return;
+						}
 					}
 				}
 
@@ -572,8 +718,10 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 		timerService.cancel();
 		timerService.updateState(GameState.IDLE);
 		swapService.stop();
+		chunkTicketService.releaseAll();
 		livesService.clear();
 		scoreboardService.clear();
+		winService.clear();
 		gameInfoService.hide();
 		for (Player player : Bukkit.getOnlinePlayers()) {
 			LanguageService.Language playerLang = languageService.getLanguage(player);
@@ -581,7 +729,7 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 					.append(Messages.get(playerLang, Messages.MessageKey.PLAYER_WON))
 					.append(Component.text(winner.getName(), NamedTextColor.GREEN))
 					.append(Messages.get(playerLang, Messages.MessageKey.OBTAINED_FIRST))
-					.append(formatMaterial(targetItem).color(NamedTextColor.AQUA))
+					.append(roundTarget.describe(playerLang).color(NamedTextColor.AQUA))
 					.append(Messages.get(playerLang, Messages.MessageKey.AND_WON))
 					.build());
 		}
@@ -590,21 +738,14 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 				.append(Messages.get(defaultLang, Messages.MessageKey.PLAYER_WON))
 				.append(Component.text(winner.getName(), NamedTextColor.GREEN))
 				.append(Messages.get(defaultLang, Messages.MessageKey.OBTAINED_FIRST))
-				.append(formatMaterial(targetItem).color(NamedTextColor.AQUA))
+				.append(roundTarget.describe(defaultLang).color(NamedTextColor.AQUA))
 				.append(Messages.get(defaultLang, Messages.MessageKey.AND_WON))
 				.build());
 		resetPlayersAfterGame();
 		worldService.setWorldStateAfterGame();
 		worldService.resetBorder();
 		playSoundForAll(Sound.ENTITY_WITHER_DEATH, SoundCategory.MASTER, 1.5f, 0.8f);
-		targetItem = null;
-	}
-
-	private Component formatMaterial(Material material) {
-		if (material == null) {
-			return Component.text("?", NamedTextColor.WHITE);
-		}
-		return Component.translatable(material.translationKey());
+		roundTarget = null;
 	}
 
 	private void playSoundForAll(Sound sound, float volume, float pitch) {
@@ -618,12 +759,13 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 	}
 
 	private void broadcast(Messages.MessageKey key, Object... args) {
+		Map<LanguageService.Language, Component> rendered = new EnumMap<>(LanguageService.Language.class);
 		for (Player player : Bukkit.getOnlinePlayers()) {
 			LanguageService.Language lang = languageService.getLanguage(player);
-			player.sendMessage(Messages.get(lang, key, args));
+			player.sendMessage(rendered.computeIfAbsent(lang, l -> Messages.get(l, key, args)));
 		}
 		LanguageService.Language defaultLang = languageService.getDefaultLanguage();
-		Bukkit.getConsoleSender().sendMessage(Messages.get(defaultLang, key, args));
+		Bukkit.getConsoleSender().sendMessage(rendered.computeIfAbsent(defaultLang, l -> Messages.get(l, key, args)));
 	}
 
 	private void broadcastToParticipants(Component component) {
@@ -635,10 +777,11 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 	}
 
 	private void broadcastToParticipants(Messages.MessageKey key, Object... args) {
+		Map<LanguageService.Language, Component> rendered = new EnumMap<>(LanguageService.Language.class);
 		for (Player player : Bukkit.getOnlinePlayers()) {
 			if (roleService.getRole(player) == Role.PLAYER) {
 				LanguageService.Language lang = languageService.getLanguage(player);
-				player.sendMessage(Messages.get(lang, key, args));
+				player.sendMessage(rendered.computeIfAbsent(lang, l -> Messages.get(l, key, args)));
 			}
 		}
 	}
@@ -684,7 +827,7 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 
 
 	private boolean handlePotentialWin(Player player) {
-		if (state != GameState.ACTIVE || targetItem == null) {
+		if (state != GameState.ACTIVE || roundTarget == null) {
 			return false;
 		}
 
@@ -692,7 +835,7 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 			return false;
 		}
 
-		if (!winService.hasTargetItem(player, targetItem)) {
+		if (!winService.hasTargetItem(player, roundTarget)) {
 			return false;
 		}
 
@@ -701,7 +844,7 @@ public class LootRushGameManager implements Listener, CommandExecutor, TabComple
 	}
 
 	private void checkLastPlayerStanding() {
-		if (state != GameState.ACTIVE || targetItem == null) {
+		if (state != GameState.ACTIVE || roundTarget == null) {
 			return;
 		}
 
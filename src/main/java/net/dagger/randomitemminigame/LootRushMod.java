@@ -1,7 +1,12 @@
 package net.dagger.randomitemminigame;
 
+import java.util.Locale;
 import java.util.Objects;
 
+import net.dagger.randomitemminigame.service.RoundSettings;
+import net.dagger.randomitemminigame.service.RoundTarget;
+import net.dagger.randomitemminigame.service.ScatterSettings;
+
 import org.bukkit.Server;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -24,8 +29,29 @@ public class LootRushMod extends JavaPlugin {
 				this,
 				getConfig().getStringList("banned-items"),
 				getConfig().getInt("swap-interval-seconds", 300),
-				getConfig().getInt("scatter-min-coord", 10000),
-				getConfig().getInt("scatter-max-coord", 100000));
+				new ScatterSettings(
+						getConfig().getInt("scatter-min-coord", 10000),
+						getConfig().getInt("scatter-max-coord", 100000),
+						getConfig().getInt("scatter-min-distance", 10000),
+						getConfig().getInt("scatter-search-concurrency", 4),
+						getConfig().getInt("spawn-pool-size", 16),
+						getConfig().getInt("spawn-pool-tick-budget-ms", 40),
+						getConfig().getInt("scatter-sample-step", 4),
+						getConfig().getInt("chunk-load-max-in-flight", 16),
+						getConfig().getInt("chunk-load-target-mspt", 45),
+						getConfig().getInt("scatter-ready-radius", 6),
+						getConfig().getBoolean("scatter-streaming", false),
+						getConfig().getInt("chunk-pin-seconds", 30),
+						getConfig().getInt("chunk-resend-per-tick", 8),
+						getConfig().getInt("chunk-resend-kb-per-tick", 256),
+						getConfig().getStringList("scatter-biome-allow"),
+						getConfig().getStringList("scatter-biome-deny")),
+				new RoundSettings(
+						parseRoundMode(getConfig().getString("round-mode", "single")),
+						getConfig().getInt("round-target-count", 3),
+						getConfig().getInt("round-required", 2),
+						getConfig().getStringList("round-item-sets"),
+						getConfig().getBoolean("win-count-nested", true)));
 		getServer().getPluginManager().registerEvents(gameManager, this);
 
 		PluginCommand command = Objects.requireNonNull(getCommand("lootrush"),
@@ -36,5 +62,17 @@ public class LootRushMod extends JavaPlugin {
 
 	@Override
 	public void onDisable() {
+		if (gameManager != null) {
+			gameManager.shutdown();
+		}
+	}
+
+	private RoundTarget.Mode parseRoundMode(String value) {
+		try {
+			return RoundTarget.Mode.valueOf(value.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			getLogger().warning("Invalid round-mode: " + value + ", using single");
+			return RoundTarget.Mode.SINGLE;
+		}
 	}
 }
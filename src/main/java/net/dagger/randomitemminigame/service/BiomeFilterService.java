@@ -0,0 +1,71 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.generator.BiomeProvider;
+
+public class BiomeFilterService {
+	private final Set<String> allowedKeys = new HashSet<>();
+	private final List<Pattern> allowedPatterns = new ArrayList<>();
+	private final Set<String> deniedKeys = new HashSet<>();
+	private final List<Pattern> deniedPatterns = new ArrayList<>();
+
+	public BiomeFilterService(ScatterSettings settings) {
+		parse(settings.biomeAllow(), allowedKeys, allowedPatterns, "scatter-biome-allow");
+		parse(settings.biomeDeny(), deniedKeys, deniedPatterns, "scatter-biome-deny");
+	}
+
+	public boolean isAllowed(World world, int x, int z) {
+		if (allowedKeys.isEmpty() && allowedPatterns.isEmpty() && deniedKeys.isEmpty() && deniedPatterns.isEmpty()) {
+			return true;
+		}
+
+		BiomeProvider provider = world.getBiomeProvider();
+		if (provider == null) {
+			provider = world.vanillaBiomeProvider();
+		}
+		Biome biome = provider.getBiome(world, x, world.getSeaLevel(), z);
+		String key = biome.getKey().toString();
+
+		boolean hasAllowList = !allowedKeys.isEmpty() || !allowedPatterns.isEmpty();
+		if (hasAllowList && !matches(key, allowedKeys, allowedPatterns)) {
+			return false;
+		}
+		return !matches(key, deniedKeys, deniedPatterns);
+	}
+
+	private boolean matches(String key, Set<String> keys, List<Pattern> patterns) {
+		if (keys.contains(key)) {
+			return true;
+		}
+		for (Pattern pattern : patterns) {
+			if (pattern.matcher(key).matches()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void parse(List<String> entries, Set<String> keys, List<Pattern> patterns, String option) {
+		for (String entry : entries) {
+			if (entry.startsWith("REGEX:")) {
+				try {
+					patterns.add(Pattern.compile(entry.substring(6)));
+				} catch (Exception e) {
+					Bukkit.getLogger().warning("Invalid regex pattern in " + option + ": " + entry);
+				}
+			} else {
+				String key = entry.toLowerCase(Locale.ROOT);
+				keys.add(key.contains(":") ? key : "minecraft:" + key);
+			}
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+public class ChunkKeySet {
+	private static final long EMPTY = Long.MIN_VALUE;
+	private static final float LOAD_FACTOR = 0.5f;
+
+	private long[] keys;
+	private long[] order;
+	private int[] positions;
+	private int mask;
+	private int size;
+
+	public ChunkKeySet() {
+		this(64);
+	}
+
+	public ChunkKeySet(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+		this.keys = new long[capacity];
+		this.order = new long[capacity >> 1];
+		this.positions = new int[capacity];
+		this.mask = capacity - 1;
+		Arrays.fill(keys, EMPTY);
+	}
+
+	public static long pack(int chunkX, int chunkZ) {
+		return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+	public static int unpackX(long key) {
+		return (int) (key >> 32);
+	}
+
+	public static int unpackZ(long key) {
+		return (int) key;
+	}
+
+	public boolean add(int chunkX, int chunkZ) {
+		return add(pack(chunkX, chunkZ));
+	}
+
+	public boolean add(long key) {
+		int slot = slot(key);
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) {
+				return false;
+			}
+			slot = (slot + 1) & mask;
+		}
+		keys[slot] = key;
+		positions[slot] = size;
+		order[size++] = key;
+		if (size >= order.length) {
+			grow();
+		}
+		return true;
+	}
+
+	public boolean contains(int chunkX, int chunkZ) {
+		return contains(pack(chunkX, chunkZ));
+	}
+
+	public boolean contains(long key) {
+		return find(key) >= 0;
+	}
+
+	public boolean remove(long key) {
+		int slot = find(key);
+		if (slot < 0) {
+			return false;
+		}
+		int index = positions[slot];
+		long last = order[--size];
+		if (last != key) {
+			order[index] = last;
+			positions[find(last)] = index;
+		}
+
+		int hole = slot;
+		int next = (hole + 1) & mask;
+		while (keys[next] != EMPTY) {
+			int home = slot(keys[next]);
+			if (((next - home) & mask) >= ((next - hole) & mask)) {
+				keys[hole] = keys[next];
+				positions[hole] = positions[next];
+				hole = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[hole] = EMPTY;
+		return true;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		Arrays.fill(keys, EMPTY);
+		size = 0;
+	}
+
+	public void forEach(LongConsumer action) {
+		for (int i = 0; i < size; i++) {
+			action.accept(order[i]);
+		}
+	}
+
+	private int find(long key) {
+		int slot = slot(key);
+		while (keys[slot] != EMPTY) {
+			if (keys[slot] == key) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	private int slot(long key) {
+		long hash = key * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+
+	private void grow() {
+		keys = new long[keys.length << 1];
+		positions = new int[keys.length];
+		order = Arrays.copyOf(order, order.length << 1);
+		mask = keys.length - 1;
+		Arrays.fill(keys, EMPTY);
+		for (int i = 0; i < size; i++) {
+			int slot = slot(order[i]);
+			while (keys[slot] != EMPTY) {
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = order[i];
+			positions[slot] = i;
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+
+public class ChunkLoadScheduler {
+	private static final double LATENCY_SMOOTHING = 0.2;
+	private static final double LATENCY_CEILING_MS = 250.0;
+
+	private final int maxInFlight;
+	private final double targetMspt;
+	private final Map<Priority, ArrayDeque<Request>> queues = new EnumMap<>(Priority.class);
+	private double window;
+	private int inFlight = 0;
+	private double averageLatencyMs = 0.0;
+	private int lastDecreaseTick = -1;
+
+	public ChunkLoadScheduler(ScatterSettings settings) {
+		this.maxInFlight = Math.max(1, settings.chunkLoadMaxInFlight());
+		this.targetMspt = settings.chunkLoadTargetMspt();
+		this.window = Math.max(1, maxInFlight / 2);
+		for (Priority priority : Priority.values()) {
+			queues.put(priority, new ArrayDeque<>());
+		}
+	}
+
+	public CompletableFuture<Chunk> load(World world, int chunkX, int chunkZ, Priority priority) {
+		Request request = new Request(world, chunkX, chunkZ, priority, new CompletableFuture<>());
+		synchronized (this) {
+			queues.get(priority).addLast(request);
+		}
+		pump();
+		return request.future();
+	}
+
+	public void cancelQueued() {
+		List<Request> cancelled = new ArrayList<>();
+		synchronized (this) {
+			for (Map.Entry<Priority, ArrayDeque<Request>> entry : queues.entrySet()) {
+				if (entry.getKey() == Priority.BACKGROUND) {
+					continue;
+				}
+				cancelled.addAll(entry.getValue());
+				entry.getValue().clear();
+			}
+		}
+		for (Request request : cancelled) {
+			request.future().cancel(false);
+		}
+	}
+
+	public synchronized int getWindow() {
+		return (int) window;
+	}
+
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	public synchronized int getQueued() {
+		int queued = 0;
+		for (ArrayDeque<Request> queue : queues.values()) {
+			queued += queue.size();
+		}
+		return queued;
+	}
+
+	private void pump() {
+		List<Request> toDispatch = new ArrayList<>();
+		synchronized (this) {
+			while (inFlight < (int) window) {
+				Request next = pollNext();
+				if (next == null) {
+					break;
+				}
+				if (next.future().isDone()) {
+					continue;
+				}
+				inFlight++;
+				toDispatch.add(next);
+			}
+		}
+		for (Request request : toDispatch) {
+			dispatch(request);
+		}
+	}
+
+	private Request pollNext() {
+		for (ArrayDeque<Request> queue : queues.values()) {
+			Request request = queue.pollFirst();
+			if (request != null) {
+				return request;
+			}
+		}
+		return null;
+	}
+
+	private void dispatch(Request request) {
+		long startedAt = System.nanoTime();
+		boolean urgent = request.priority() == Priority.TARGET || request.priority() == Priority.NEAR;
+		request.world().getChunkAtAsync(request.chunkX(), request.chunkZ(), true, urgent).whenComplete((chunk, throwable) -> {
+			onLoaded((System.nanoTime() - startedAt) / 1_000_000.0);
+			if (throwable != null) {
+				request.future().completeExceptionally(throwable);
+			} else {
+				request.future().complete(chunk);
+			}
+			pump();
+		});
+	}
+
+	private synchronized void onLoaded(double latencyMs) {
+		inFlight--;
+		averageLatencyMs = averageLatencyMs == 0.0 ? latencyMs : averageLatencyMs + LATENCY_SMOOTHING * (latencyMs - averageLatencyMs);
+		if (Bukkit.getAverageTickTime() > targetMspt || averageLatencyMs > LATENCY_CEILING_MS) {
+			int tick = Bukkit.getCurrentTick();
+			if (tick != lastDecreaseTick) {
+				lastDecreaseTick = tick;
+				window = Math.max(1.0, window / 2.0);
+			}
+			return;
+		}
+		window = Math.min(maxInFlight, window + 1.0 / window);
+	}
+
+	public enum Priority {
+		TARGET,
+		NEAR,
+		FAR,
+		BACKGROUND
+	}
+
+	private record Request(World world, int chunkX, int chunkZ, Priority priority, CompletableFuture<Chunk> future) {
+	}
+}
@@ -0,0 +1,119 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+public class ChunkResendService {
+	private static final int SECTION_BYTES = 512;
+	private static final int CHUNK_OVERHEAD_BYTES = 2048;
+
+	private final JavaPlugin plugin;
+	private final int chunksPerTick;
+	private final long bytesPerTick;
+	private final Deque<Request> queue = new ArrayDeque<>();
+	private final Map<World, ChunkKeySet> pending = new HashMap<>();
+	private BukkitRunnable drainTask;
+
+	public ChunkResendService(JavaPlugin plugin, ScatterSettings settings) {
+		this.plugin = plugin;
+		this.chunksPerTick = Math.max(1, settings.chunkResendPerTick());
+		this.bytesPerTick = Math.max(1, settings.chunkResendKbPerTick()) * 1024L;
+	}
+
+	public void start() {
+		stop();
+		drainTask = new BukkitRunnable() {
+			@Override
+			public void run() {
+				drain();
+			}
+		};
+		drainTask.runTaskTimer(plugin, 1L, 1L);
+	}
+
+	public void stop() {
+		if (drainTask != null) {
+			drainTask.cancel();
+			drainTask = null;
+		}
+	}
+
+	public void reset() {
+		queue.clear();
+		pending.clear();
+	}
+
+	public void request(World world, long key) {
+		if (pending.computeIfAbsent(world, id -> new ChunkKeySet(1024)).add(key)) {
+			queue.addLast(new Request(world, key));
+		}
+	}
+
+	public void requestAll(Map<World, ChunkKeySet> chunks) {
+		for (Map.Entry<World, ChunkKeySet> entry : chunks.entrySet()) {
+			World world = entry.getKey();
+			entry.getValue().forEach(key -> request(world, key));
+		}
+	}
+
+	public int getQueued() {
+		return queue.size();
+	}
+
+	private void drain() {
+		if (queue.isEmpty()) {
+			return;
+		}
+
+		int budget = chunksPerTick;
+		long bytesLeft = bytesPerTick;
+		while (budget > 0 && bytesLeft > 0) {
+			Request request = queue.pollFirst();
+			if (request == null) {
+				break;
+			}
+			int chunkX = ChunkKeySet.unpackX(request.key());
+			int chunkZ = ChunkKeySet.unpackZ(request.key());
+			int viewers = request.world().isChunkLoaded(chunkX, chunkZ) ? countViewers(request.world(), chunkX, chunkZ) : 0;
+			long bytes = estimateChunkBytes(request.world()) * viewers;
+			if (viewers > 0 && bytes > bytesLeft && budget < chunksPerTick) {
+				queue.addFirst(request);
+				break;
+			}
+			pending.get(request.world()).remove(request.key());
+			if (viewers == 0) {
+				continue;
+			}
+			request.world().refreshChunk(chunkX, chunkZ);
+			budget--;
+			bytesLeft -= bytes;
+		}
+	}
+
+	private int countViewers(World world, int chunkX, int chunkZ) {
+		long chunkKey = Chunk.getChunkKey(chunkX, chunkZ);
+		int viewers = 0;
+		for (Player player : world.getPlayers()) {
+			if (player.isChunkSent(chunkKey)) {
+				viewers++;
+			}
+		}
+		return viewers;
+	}
+
+	private static long estimateChunkBytes(World world) {
+		int sections = (world.getMaxHeight() - world.getMinHeight()) >> 4;
+		return (long) sections * SECTION_BYTES + CHUNK_OVERHEAD_BYTES;
+	}
+
+	private record Request(World world, long key) {
+	}
+}
@@ -0,0 +1,77 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+public class ChunkTicketService {
+	private static final long ESTIMATED_CHUNK_BYTES = 160L * 1024L;
+
+	private final JavaPlugin plugin;
+	private final long pinTicks;
+	private final Map<World, ChunkKeySet> pinned = new HashMap<>();
+	private BukkitRunnable releaseTask;
+
+	public ChunkTicketService(JavaPlugin plugin, ScatterSettings settings) {
+		this.plugin = plugin;
+		this.pinTicks = Math.max(0, settings.chunkPinSeconds()) * 20L;
+	}
+
+	public void pin(World world, int chunkX, int chunkZ) {
+		ChunkKeySet chunks = pinned.computeIfAbsent(world, key -> new ChunkKeySet(1024));
+		if (chunks.add(chunkX, chunkZ)) {
+			world.addPluginChunkTicket(chunkX, chunkZ, plugin);
+		}
+	}
+
+	public void releaseLater() {
+		cancelRelease();
+		if (pinTicks <= 0 || pinned.isEmpty()) {
+			releaseAll();
+			return;
+		}
+		releaseTask = new BukkitRunnable() {
+			@Override
+			public void run() {
+				releaseTask = null;
+				releaseAll();
+			}
+		};
+		releaseTask.runTaskLater(plugin, pinTicks);
+	}
+
+	public void releaseAll() {
+		cancelRelease();
+		for (Map.Entry<World, ChunkKeySet> entry : pinned.entrySet()) {
+			World world = entry.getKey();
+			entry.getValue().forEach(key -> world.removePluginChunkTicket(ChunkKeySet.unpackX(key), ChunkKeySet.unpackZ(key), plugin));
+		}
+		pinned.clear();
+	}
+
+	public int getPinnedChunks() {
+		int total = 0;
+		for (ChunkKeySet chunks : pinned.values()) {
+			total += chunks.size();
+		}
+		return total;
+	}
+
+	public int getPinnedWorlds() {
+		return pinned.size();
+	}
+
+	public long getEstimatedBytes() {
+		return getPinnedChunks() * ESTIMATED_CHUNK_BYTES;
+	}
+
+	private void cancelRelease() {
+		if (releaseTask != null) {
+			releaseTask.cancel();
+			releaseTask = null;
+		}
+	}
+}
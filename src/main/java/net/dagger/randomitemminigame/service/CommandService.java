@@ -19,7 +19,7 @@ public class CommandService implements TabCompleter {
 	private final Consumer<CommandSender> handleStop;
 	private final Consumer<CommandSender> handleStatus;
 	private final Consumer<CommandSender> handleSkip;
-	private final Consumer<CommandSender> handleDebug;
+	private final Consumer<CommandSenderAndArgs> handleDebug;
 	private final Consumer<CommandSenderAndArgs> handleRole;
 	private final Consumer<CommandSenderAndArgs> handleLang;
 
@@ -29,7 +29,7 @@ public class CommandService implements TabCompleter {
 			Consumer<CommandSender> handleStop,
 			Consumer<CommandSender> handleStatus,
 			Consumer<CommandSender> handleSkip,
-			Consumer<CommandSender> handleDebug,
+			Consumer<CommandSenderAndArgs> handleDebug,
 			Consumer<CommandSenderAndArgs> handleRole,
 			Consumer<CommandSenderAndArgs> handleLang) {
 		this.languageService = languageService;
@@ -66,7 +66,7 @@ public class CommandService implements TabCompleter {
 			handleSkip.accept(sender);
 			return true;
 		case "debug":
-			handleDebug.accept(sender);
+			handleDebug.accept(new CommandSenderAndArgs(sender, args));
 			return true;
 		case "lang":
 			handleLang.accept(new CommandSenderAndArgs(sender, args));
@@ -98,6 +98,12 @@ public class CommandService implements TabCompleter {
 					.collect(Collectors.toList());
 		}
 
+		if (args.length == 2 && "debug".equalsIgnoreCase(args[0])) {
+			return Arrays.asList("tickets", "dump").stream()
+					.filter(option -> option.startsWith(args[1].toLowerCase(Locale.ROOT)))
+					.collect(Collectors.toList());
+		}
+
 		if (args.length == 2 && "role".equalsIgnoreCase(args[0])) {
 			return Arrays.asList("player", "spectator").stream()
 					.filter(option -> option.startsWith(args[1].toLowerCase(Locale.ROOT)))
@@ -1,35 +1,24 @@
 package net.dagger.randomitemminigame.service;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import net.kyori.adventure.bossbar.BossBar;
-import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
 
 public class GameInfoService {
-	private final LanguageService languageService;
-	private final Map<LanguageService.Language, BossBar> bossBars = new HashMap<>();
-	private Material currentItem;
+	private final ProgressBar progressBar;
+	private RoundTarget currentTarget;
 
-	public GameInfoService(LanguageService languageService) {
-		this.languageService = languageService;
+	public GameInfoService(JavaPlugin plugin, LanguageService languageService) {
+		this.progressBar = new ProgressBar(plugin, languageService, BossBar.Color.GREEN, BossBar.Overlay.PROGRESS, 0);
 	}
 
-	public void showTargetItem(Material item) {
+	public void showTarget(RoundTarget target) {
 		hide();
-		this.currentItem = item;
-
-		for (LanguageService.Language lang : LanguageService.Language.values()) {
-			Component title = Component.translatable(item.translationKey()).color(NamedTextColor.WHITE);
-
-			BossBar bossBar = BossBar.bossBar(title, 0.0f, BossBar.Color.GREEN, BossBar.Overlay.PROGRESS);
-			bossBars.put(lang, bossBar);
-		}
+		this.currentTarget = target;
+		progressBar.setTitle(lang -> target.describe(lang).color(NamedTextColor.WHITE));
 
 		for (Player player : Bukkit.getOnlinePlayers()) {
 			addPlayer(player);
@@ -37,72 +26,42 @@ public class GameInfoService {
 	}
 
 	public void hide() {
-		for (Player player : Bukkit.getOnlinePlayers()) {
-			removePlayer(player);
-		}
-		bossBars.clear();
-		currentItem = null;
+		progressBar.hideAll();
+		currentTarget = null;
 	}
 
 	public void addPlayer(Player player) {
-		if (currentItem == null || bossBars.isEmpty()) {
+		if (currentTarget == null) {
 			return;
 		}
-		LanguageService.Language lang = languageService.getLanguage(player);
-		BossBar bar = bossBars.get(lang);
-		if (bar != null) {
-			player.showBossBar(bar);
-		}
+		progressBar.show(player);
 	}
 
 	public void removePlayer(Player player) {
-		if (bossBars.isEmpty()) {
-			return;
-		}
-		for (BossBar bar : bossBars.values()) {
-			player.hideBossBar(bar);
-		}
+		progressBar.hide(player);
 	}
 
 	public void updateLanguage(Player player, LanguageService.Language oldLang, LanguageService.Language newLang) {
-		if (currentItem == null || bossBars.isEmpty()) {
+		if (currentTarget == null) {
 			return;
 		}
-
-		BossBar oldBar = bossBars.get(oldLang);
-		if (oldBar != null) {
-			player.hideBossBar(oldBar);
-		}
-
-		BossBar newBar = bossBars.get(newLang);
-		if (newBar != null) {
-			player.showBossBar(newBar);
-		}
+		progressBar.changeLanguage(player);
 	}
 
-	public void updateTargetItem(Material newItem) {
-		if (this.currentItem == null) {
+	public void updateTarget(RoundTarget newTarget) {
+		if (this.currentTarget == null) {
 			return;
 		}
-		this.currentItem = newItem;
+		this.currentTarget = newTarget;
 
-		for (Map.Entry<LanguageService.Language, BossBar> entry : bossBars.entrySet()) {
-			BossBar bar = entry.getValue();
-
-			Component title = Component.translatable(newItem.translationKey()).color(NamedTextColor.WHITE);
-
-			bar.name(title);
-			bar.progress(0.0f);
-		}
+		progressBar.setTitle(lang -> newTarget.describe(lang).color(NamedTextColor.WHITE));
+		progressBar.setProgress(0.0);
 	}
 
 	public void setProgress(double progress) {
-		if (bossBars.isEmpty()) {
+		if (currentTarget == null) {
 			return;
 		}
-		float clamped = (float) Math.max(0.0, Math.min(1.0, progress));
-		for (BossBar bar : bossBars.values()) {
-			bar.progress(clamped);
-		}
+		progressBar.setProgress(progress);
 	}
 }
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Random;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -12,13 +13,17 @@ import java.util.stream.Collectors;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Tag;
 
 public class ItemService {
 
 	private final List<Material> itemPool;
+	private final RoundSettings roundSettings;
 	private final Random random = new Random();
 
-	public ItemService(List<String> bannedItems) {
+	public ItemService(List<String> bannedItems, RoundSettings roundSettings) {
+		this.roundSettings = roundSettings;
 		Set<Material> bannedMaterials = new HashSet<>();
 		List<Pattern> bannedPatterns = new ArrayList<>();
 
@@ -54,6 +59,58 @@ public class ItemService {
 		return itemPool.get(random.nextInt(itemPool.size()));
 	}
 
+	public RoundTarget pickRoundTarget() {
+		if (roundSettings.mode() == RoundTarget.Mode.ANY) {
+			List<String> sets = new ArrayList<>(roundSettings.itemSets());
+			Collections.shuffle(sets, random);
+			for (String set : sets) {
+				List<Material> items = resolveItemSet(set);
+				if (!items.isEmpty()) {
+					return RoundTarget.anyOf(items);
+				}
+			}
+			Bukkit.getLogger().warning("No usable entries in round-item-sets, falling back to a single item");
+		} else if (roundSettings.mode() == RoundTarget.Mode.COLLECT && itemPool.size() > 1) {
+			List<Material> shuffled = new ArrayList<>(itemPool);
+			Collections.shuffle(shuffled, random);
+			int count = Math.max(1, Math.min(roundSettings.targetCount(), shuffled.size()));
+			return RoundTarget.collect(shuffled.subList(0, count), roundSettings.required());
+		}
+		return RoundTarget.single(pickRandomItem());
+	}
+
+	private List<Material> resolveItemSet(String set) {
+		List<Material> items = new ArrayList<>();
+		String trimmed = set.trim();
+		if (trimmed.startsWith("#")) {
+			NamespacedKey key = NamespacedKey.fromString(trimmed.substring(1).toLowerCase(Locale.ROOT));
+			Tag<Material> tag = key == null ? null : Bukkit.getTag(Tag.REGISTRY_ITEMS, key, Material.class);
+			if (tag == null) {
+				Bukkit.getLogger().warning("Unknown item tag in round-item-sets: " + set);
+				return items;
+			}
+			for (Material material : tag.getValues()) {
+				if (itemPool.contains(material)) {
+					items.add(material);
+				}
+			}
+			items.sort(null);
+			return items;
+		}
+
+		for (String name : trimmed.split(",")) {
+			try {
+				Material material = Material.valueOf(name.trim().toUpperCase(Locale.ROOT));
+				if (itemPool.contains(material)) {
+					items.add(material);
+				}
+			} catch (IllegalArgumentException e) {
+				Bukkit.getLogger().warning("Invalid material name in round-item-sets: " + name);
+			}
+		}
+		return items;
+	}
+
 	public boolean isItemInPool(Material material) {
 		return itemPool.contains(material);
 	}
@@ -1,15 +1,22 @@
 package net.dagger.randomitemminigame.service;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.bukkit.entity.Player;
 
 public class LivesService {
 	private static final int MAX_LIVES = 5;
 	private final Map<UUID, Integer> playerLives = new HashMap<>();
+	private Consumer<LivesChange> listener = change -> {};
+
+	public void setListener(Consumer<LivesChange> listener) {
+		this.listener = listener;
+	}
 
 	public void initializeLives(List<Player> participants) {
 		playerLives.clear();
@@ -23,9 +30,10 @@ public class LivesService {
 	}
 
 	public int decreaseLives(Player player) {
-		int lives = getLives(player);
-		lives--;
+		int oldLives = getLives(player);
+		int lives = oldLives - 1;
 		playerLives.put(player.getUniqueId(), lives);
+		listener.accept(new LivesChange(player.getUniqueId(), player.getName(), oldLives, lives));
 		return lives;
 	}
 
@@ -42,10 +50,13 @@ public class LivesService {
 	}
 
 	public Map<UUID, Integer> getAllLives() {
-		return new HashMap<>(playerLives);
+		return Collections.unmodifiableMap(playerLives);
 	}
 
 	public static int getMaxLives() {
 		return MAX_LIVES;
 	}
+
+	public record LivesChange(UUID playerId, String playerName, int oldLives, int newLives) {
+	}
 }
@@ -0,0 +1,230 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+
+public class LocationProbeService {
+	private static final Set<Material> UNSAFE_FLOOR_BLOCKS = EnumSet.of(
+			Material.LAVA,
+			Material.WATER,
+			Material.KELP,
+			Material.KELP_PLANT,
+			Material.SEAGRASS,
+			Material.TALL_SEAGRASS,
+			Material.BUBBLE_COLUMN,
+			Material.CACTUS,
+			Material.MAGMA_BLOCK,
+			Material.CAMPFIRE,
+			Material.SOUL_CAMPFIRE,
+			Material.FIRE,
+			Material.SOUL_FIRE,
+			Material.POWDER_SNOW,
+			Material.SWEET_BERRY_BUSH,
+			Material.COBWEB,
+			Material.WITHER_ROSE
+	);
+
+	private final JavaPlugin plugin;
+	private final ProbeIndexService probeIndexService;
+	private final BiomeFilterService biomeFilterService;
+	private final ChunkLoadScheduler chunkLoadScheduler;
+	private final int minScatterCoord;
+	private final int maxScatterCoord;
+	private final int sampleStep;
+	private final Random random = new Random();
+	private final ExecutorService evaluationExecutor;
+
+	public LocationProbeService(JavaPlugin plugin, ProbeIndexService probeIndexService, BiomeFilterService biomeFilterService,
+			ChunkLoadScheduler chunkLoadScheduler, ScatterSettings settings) {
+		this.plugin = plugin;
+		this.probeIndexService = probeIndexService;
+		this.biomeFilterService = biomeFilterService;
+		this.chunkLoadScheduler = chunkLoadScheduler;
+		this.minScatterCoord = settings.minScatterCoord();
+		this.maxScatterCoord = settings.maxScatterCoord();
+		this.sampleStep = Math.min(16, Math.max(0, settings.sampleStep()));
+		this.evaluationExecutor = Executors.newFixedThreadPool(Math.max(1, Math.min(4, settings.searchConcurrency())), runnable -> {
+			Thread thread = new Thread(runnable, "LootRush-Probe");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public void shutdown() {
+		evaluationExecutor.shutdownNow();
+	}
+
+	public CompletableFuture<ProbeResult> probe(World world, int x, int z, boolean urgent) {
+		if (!biomeFilterService.isAllowed(world, x, z)) {
+			return CompletableFuture.completedFuture(new ProbeResult(Verdict.BIOME_EXCLUDED, x, z, 0, null, null, null));
+		}
+
+		ProbeIndexService.Entry known = probeIndexService.lookup(world, x, z, sampleStep);
+		if (known != null && known.verdict() != Verdict.SAFE) {
+			return CompletableFuture.completedFuture(new ProbeResult(known.verdict(), known.x(), known.z(), known.floorY(), null, null, null));
+		}
+
+		int chunkX = x >> 4;
+		int chunkZ = z >> 4;
+		CompletableFuture<ProbeResult> result = new CompletableFuture<>();
+		loadChunk(world, chunkX, chunkZ, urgent).whenComplete((chunk, throwable) -> {
+			if (throwable != null) {
+				result.completeExceptionally(throwable);
+				return;
+			}
+			if (Bukkit.isPrimaryThread()) {
+				evaluateAsync(world, chunk, x, z, urgent, result);
+			} else {
+				Bukkit.getScheduler().runTask(plugin, () -> evaluateAsync(world, chunk, x, z, urgent, result));
+			}
+		});
+		return result;
+	}
+
+	private void evaluateAsync(World world, Chunk chunk, int x, int z, boolean urgent, CompletableFuture<ProbeResult> result) {
+		if (result.isDone()) {
+			return;
+		}
+		ChunkSnapshot snapshot = chunk.getChunkSnapshot(true, false, false);
+		int minHeight = world.getMinHeight();
+		int maxHeight = world.getMaxHeight();
+		CompletableFuture.supplyAsync(() -> findSafeColumn(x, z, (columnX, columnZ) -> evaluateColumn(snapshot, minHeight, maxHeight, columnX, columnZ)),
+				evaluationExecutor).whenComplete((probed, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> {
+			if (throwable != null) {
+				result.completeExceptionally(throwable);
+				return;
+			}
+			probeIndexService.record(world, probed, sampleStep);
+			if (!probed.isSafe() || !urgent) {
+				result.complete(probed);
+				return;
+			}
+			preloadSurroundingChunks(world, probed.x() >> 4, probed.z() >> 4, urgent)
+					.whenComplete((ignored, preloadError) -> {
+						if (preloadError != null) {
+							result.completeExceptionally(preloadError);
+							return;
+						}
+						result.complete(probed);
+					});
+		}));
+	}
+
+	private CompletableFuture<Void> preloadSurroundingChunks(World world, int chunkX, int chunkZ, boolean urgent) {
+		List<CompletableFuture<Chunk>> futures = new ArrayList<>();
+		for (int dx = -2; dx <= 2; dx++) {
+			for (int dz = -2; dz <= 2; dz++) {
+				futures.add(loadChunk(world, chunkX + dx, chunkZ + dz, urgent));
+			}
+		}
+		return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+	}
+
+	public int getMinScatterCoord() {
+		return minScatterCoord;
+	}
+
+	public int getMaxScatterCoord() {
+		return maxScatterCoord;
+	}
+
+	public int randomScatterCoordinate() {
+		int range = maxScatterCoord - minScatterCoord;
+		if (range <= 0) range = 1;
+		int base = minScatterCoord + random.nextInt(range + 1);
+		return random.nextBoolean() ? base : -base;
+	}
+
+	private CompletableFuture<Chunk> loadChunk(World world, int chunkX, int chunkZ, boolean urgent) {
+		return chunkLoadScheduler.load(world, chunkX, chunkZ, urgent ? ChunkLoadScheduler.Priority.TARGET : ChunkLoadScheduler.Priority.BACKGROUND);
+	}
+
+	private ProbeResult findSafeColumn(int x, int z, BiFunction<Integer, Integer, ProbeResult> evaluator) {
+		ProbeResult candidate = evaluator.apply(x, z);
+		if (candidate.isSafe() || sampleStep == 0) {
+			return candidate;
+		}
+
+		int baseX = x & ~15;
+		int baseZ = z & ~15;
+		ProbeResult best = null;
+		long bestDistanceSq = Long.MAX_VALUE;
+		for (int localX = sampleStep / 2; localX < 16; localX += sampleStep) {
+			for (int localZ = sampleStep / 2; localZ < 16; localZ += sampleStep) {
+				int columnX = baseX + localX;
+				int columnZ = baseZ + localZ;
+				long dx = columnX - x;
+				long dz = columnZ - z;
+				long distanceSq = dx * dx + dz * dz;
+				if (distanceSq == 0 || distanceSq >= bestDistanceSq) {
+					continue;
+				}
+				ProbeResult sampled = evaluator.apply(columnX, columnZ);
+				if (sampled.isSafe()) {
+					best = sampled;
+					bestDistanceSq = distanceSq;
+				}
+			}
+		}
+		return best != null ? best : candidate;
+	}
+
+	private ProbeResult evaluateColumn(ChunkSnapshot snapshot, int minHeight, int maxHeight, int x, int z) {
+		int localX = x & 15;
+		int localZ = z & 15;
+		int floorY = snapshot.getHighestBlockYAt(localX, localZ);
+		if (floorY <= minHeight) {
+			return new ProbeResult(Verdict.Y_TOO_LOW, x, z, floorY, null, null, null);
+		}
+
+		Material floor = snapshot.getBlockType(localX, floorY, localZ);
+		Material feet = floorY + 1 < maxHeight ? snapshot.getBlockType(localX, floorY + 1, localZ) : Material.AIR;
+		Material head = floorY + 2 < maxHeight ? snapshot.getBlockType(localX, floorY + 2, localZ) : Material.AIR;
+		Verdict verdict = isSafeFloor(floor) && isPassable(feet) && isPassable(head) ? Verdict.SAFE : Verdict.UNSAFE_BLOCKS;
+		return new ProbeResult(verdict, x, z, floorY, floor, feet, head);
+	}
+
+	private boolean isSafeFloor(Material type) {
+		return type.isSolid() && !UNSAFE_FLOOR_BLOCKS.contains(type);
+	}
+
+	private boolean isPassable(Material type) {
+		return type.isAir() || !type.isSolid();
+	}
+
+	public enum Verdict {
+		SAFE,
+		UNSAFE_BLOCKS,
+		Y_TOO_LOW,
+		BIOME_EXCLUDED
+	}
+
+	public record ProbeResult(Verdict verdict, int x, int z, int floorY, Material floor, Material feet, Material head) {
+		public boolean isSafe() {
+			return verdict == Verdict.SAFE;
+		}
+
+		public int feetY() {
+			return floorY + 1;
+		}
+
+		public Location toLocation(World world) {
+			return new Location(world, x + 0.5, feetY(), z + 0.5);
+		}
+	}
+}
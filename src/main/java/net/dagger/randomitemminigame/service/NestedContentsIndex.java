@@ -0,0 +1,109 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.Material;
+import org.bukkit.block.ShulkerBox;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BlockStateMeta;
+import org.bukkit.inventory.meta.BundleMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+
+public class NestedContentsIndex {
+	private static final int MAX_ENTRIES = 512;
+	private static final int MAX_DEPTH = 4;
+	private static final BitSet EMPTY = new BitSet();
+
+	private final Map<ItemStack, BitSet> cache = new LinkedHashMap<>(64, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ItemStack, BitSet> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	public static boolean isContainer(ItemStack stack) {
+		if (stack == null) {
+			return false;
+		}
+		Material type = stack.getType();
+		return type == Material.BUNDLE || type.name().endsWith("_BUNDLE") || type.name().endsWith("SHULKER_BOX");
+	}
+
+	public BitSet contents(ItemStack stack) {
+		if (!isContainer(stack) || !stack.hasItemMeta()) {
+			return EMPTY;
+		}
+		BitSet cached = cache.get(stack);
+		if (cached != null) {
+			return cached;
+		}
+		BitSet contents = new BitSet();
+		collect(stack, contents, 0);
+		cache.put(stack.clone(), contents);
+		return contents;
+	}
+
+	public boolean removeNested(ItemStack stack, RoundTarget target) {
+		if (!isContainer(stack) || !stack.hasItemMeta() || !target.intersects(contents(stack))) {
+			return false;
+		}
+		ItemMeta meta = stack.getItemMeta();
+		if (meta instanceof BlockStateMeta blockStateMeta && blockStateMeta.getBlockState() instanceof ShulkerBox box) {
+			ItemStack[] items = box.getInventory().getContents();
+			for (int i = 0; i < items.length; i++) {
+				if (items[i] == null) {
+					continue;
+				}
+				if (target.contains(items[i].getType())) {
+					items[i] = null;
+				} else {
+					removeNested(items[i], target);
+				}
+			}
+			box.getInventory().setContents(items);
+			blockStateMeta.setBlockState(box);
+		} else if (meta instanceof BundleMeta bundleMeta) {
+			List<ItemStack> kept = new ArrayList<>();
+			for (ItemStack item : bundleMeta.getItems()) {
+				if (!target.contains(item.getType())) {
+					removeNested(item, target);
+					kept.add(item);
+				}
+			}
+			bundleMeta.setItems(kept);
+		} else {
+			return false;
+		}
+		stack.setItemMeta(meta);
+		return true;
+	}
+
+	private void collect(ItemStack stack, BitSet contents, int depth) {
+		if (depth >= MAX_DEPTH) {
+			return;
+		}
+		ItemMeta meta = stack.getItemMeta();
+		Iterable<ItemStack> items;
+		if (meta instanceof BlockStateMeta blockStateMeta && blockStateMeta.hasBlockState()
+				&& blockStateMeta.getBlockState() instanceof ShulkerBox box) {
+			items = List.of(box.getInventory().getContents());
+		} else if (meta instanceof BundleMeta bundleMeta) {
+			items = bundleMeta.getItems();
+		} else {
+			return;
+		}
+		for (ItemStack item : items) {
+			if (item == null || item.getType().isAir()) {
+				continue;
+			}
+			contents.set(item.getType().ordinal());
+			if (isContainer(item) && item.hasItemMeta()) {
+				collect(item, contents, depth + 1);
+			}
+		}
+	}
+}
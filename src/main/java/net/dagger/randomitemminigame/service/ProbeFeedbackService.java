@@ -0,0 +1,102 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+public class ProbeFeedbackService {
+	private static final int HISTORY_SIZE = 256;
+
+	private final JavaPlugin plugin;
+	private final LanguageService languageService;
+	private final Map<Messages.MessageKey, Integer> counts = new EnumMap<>(Messages.MessageKey.class);
+	private final Deque<Entry> history = new ArrayDeque<>();
+	private List<Player> audience = List.of();
+	private BukkitRunnable flushTask;
+
+	public ProbeFeedbackService(JavaPlugin plugin, LanguageService languageService) {
+		this.plugin = plugin;
+		this.languageService = languageService;
+	}
+
+	public void start() {
+		stop();
+		flushTask = new BukkitRunnable() {
+			@Override
+			public void run() {
+				flush();
+			}
+		};
+		flushTask.runTaskTimer(plugin, 1L, 1L);
+	}
+
+	public void stop() {
+		if (flushTask != null) {
+			flushTask.cancel();
+			flushTask = null;
+		}
+	}
+
+	public synchronized void open(List<Player> participants) {
+		counts.clear();
+		history.clear();
+		audience = new ArrayList<>(participants);
+	}
+
+	public synchronized void record(Messages.MessageKey key, Object... args) {
+		if (key != Messages.MessageKey.ATTEMPT_LOCATION_FOUND) {
+			counts.merge(key, 1, Integer::sum);
+		}
+		if (history.size() >= HISTORY_SIZE) {
+			history.pollFirst();
+		}
+		history.addLast(new Entry(key, args));
+	}
+
+	public synchronized List<Entry> getHistory() {
+		return new ArrayList<>(history);
+	}
+
+	private void flush() {
+		int tooClose;
+		int yTooLow;
+		int unsafe;
+		int biome;
+		int errors;
+		List<Player> recipients;
+		synchronized (this) {
+			if (counts.isEmpty()) {
+				return;
+			}
+			tooClose = counts.getOrDefault(Messages.MessageKey.ATTEMPT_TOO_CLOSE, 0);
+			yTooLow = counts.getOrDefault(Messages.MessageKey.ATTEMPT_Y_TOO_LOW, 0);
+			unsafe = counts.getOrDefault(Messages.MessageKey.ATTEMPT_UNSAFE_BLOCKS, 0);
+			biome = counts.getOrDefault(Messages.MessageKey.ATTEMPT_BIOME_EXCLUDED, 0);
+			errors = counts.getOrDefault(Messages.MessageKey.CHUNK_LOAD_ERROR, 0);
+			counts.clear();
+			recipients = audience;
+		}
+
+		int total = tooClose + yTooLow + unsafe + biome + errors;
+		Map<LanguageService.Language, Component> summaries = new EnumMap<>(LanguageService.Language.class);
+		for (Player participant : recipients) {
+			if (participant == null || !participant.isOnline()) {
+				continue;
+			}
+			Component summary = summaries.computeIfAbsent(languageService.getLanguage(participant),
+					lang -> Messages.get(lang, Messages.MessageKey.PROBE_SUMMARY, total, tooClose, yTooLow, unsafe, biome, errors));
+			participant.sendMessage(summary);
+		}
+	}
+
+	public record Entry(Messages.MessageKey key, Object[] args) {
+	}
+}
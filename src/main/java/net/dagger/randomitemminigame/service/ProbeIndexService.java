@@ -0,0 +1,176 @@
+package net.dagger.randomitemminigame.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+
+public class ProbeIndexService {
+	private static final int MAGIC = 0x4C525049;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 16;
+	private static final int RECORD_SIZE = 12;
+	private static final int MAX_CHUNK_WIDE_STEP = 8;
+
+	private final JavaPlugin plugin;
+	private final File directory;
+	private final Map<String, WorldIndex> indexes = new ConcurrentHashMap<>();
+
+	public ProbeIndexService(JavaPlugin plugin) {
+		this.plugin = plugin;
+		this.directory = new File(plugin.getDataFolder(), "probe-index");
+	}
+
+	public void load() {
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(".bin"));
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			String key = file.getName().substring(0, file.getName().length() - 4);
+			try {
+				indexes.put(key, read(file));
+			} catch (IOException | RuntimeException e) {
+				plugin.getLogger().warning("Не удалось прочитать индекс проверенных точек " + file.getName() + ": " + e.getMessage());
+			}
+		}
+	}
+
+	public Entry lookup(World world, int x, int z, int sampleStep) {
+		Entry entry = indexFor(world).entries.get(chunkKey(x >> 4, z >> 4));
+		if (entry == null || entry.verdict() == LocationProbeService.Verdict.SAFE || entry.x() == x && entry.z() == z) {
+			return entry;
+		}
+		return entry.sampleStep() > 0 && entry.sampleStep() <= Math.min(sampleStep, MAX_CHUNK_WIDE_STEP) ? entry : null;
+	}
+
+	public void record(World world, LocationProbeService.ProbeResult result, int sampleStep) {
+		WorldIndex index = indexFor(world);
+		long key = chunkKey(result.x() >> 4, result.z() >> 4);
+		Entry entry = new Entry(result.x(), result.z(), result.verdict(), result.floorY(), result.isSafe() ? 0 : sampleStep);
+		Entry previous = index.entries.get(key);
+		if (previous != null && previous.verdict() == LocationProbeService.Verdict.SAFE && !result.isSafe()) {
+			return;
+		}
+		previous = index.entries.put(key, entry);
+		if (entry.equals(previous)) {
+			return;
+		}
+		synchronized (index) {
+			index.pending.add(entry);
+		}
+	}
+
+	public List<Location> safeLocations(World world) {
+		List<Location> locations = new ArrayList<>();
+		for (Entry entry : indexFor(world).entries.values()) {
+			if (entry.verdict() == LocationProbeService.Verdict.SAFE) {
+				locations.add(new Location(world, entry.x() + 0.5, entry.floorY() + 1, entry.z() + 0.5));
+			}
+		}
+		return locations;
+	}
+
+	public void flush() {
+		for (WorldIndex index : indexes.values()) {
+			try {
+				flush(index);
+			} catch (IOException e) {
+				plugin.getLogger().warning("Не удалось сохранить индекс проверенных точек " + index.file.getName() + ": " + e.getMessage());
+			}
+		}
+	}
+
+	private WorldIndex indexFor(World world) {
+		String key = world.getUID() + "-" + world.getSeed();
+		return indexes.computeIfAbsent(key, id -> new WorldIndex(new File(directory, id + ".bin"), world.getSeed()));
+	}
+
+	private WorldIndex read(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				throw new IOException("unknown file format");
+			}
+
+			WorldIndex index = new WorldIndex(file, buffer.getLong());
+			LocationProbeService.Verdict[] verdicts = LocationProbeService.Verdict.values();
+			int records = 0;
+			while (buffer.remaining() >= RECORD_SIZE) {
+				int x = buffer.getInt();
+				int z = buffer.getInt();
+				int floorY = buffer.getShort();
+				int verdict = buffer.get();
+				int sampleStep = buffer.get();
+				records++;
+				if (verdict < 0 || verdict >= verdicts.length) {
+					continue;
+				}
+				index.entries.put(chunkKey(x >> 4, z >> 4), new Entry(x, z, verdicts[verdict], floorY, sampleStep));
+			}
+			index.rewrite = records > index.entries.size() * 2;
+			return index;
+		}
+	}
+
+	private void flush(WorldIndex index) throws IOException {
+		List<Entry> toWrite;
+		boolean rewrite;
+		synchronized (index) {
+			rewrite = index.rewrite || !index.file.exists();
+			if (!rewrite && index.pending.isEmpty()) {
+				return;
+			}
+			toWrite = rewrite ? new ArrayList<>(index.entries.values()) : new ArrayList<>(index.pending);
+			index.pending.clear();
+			index.rewrite = false;
+		}
+
+		directory.mkdirs();
+		ByteBuffer buffer = ByteBuffer.allocate((rewrite ? HEADER_SIZE : 0) + toWrite.size() * RECORD_SIZE);
+		if (rewrite) {
+			buffer.putInt(MAGIC).putInt(VERSION).putLong(index.seed);
+		}
+		for (Entry entry : toWrite) {
+			buffer.putInt(entry.x()).putInt(entry.z()).putShort((short) entry.floorY()).put((byte) entry.verdict().ordinal()).put((byte) entry.sampleStep());
+		}
+		buffer.flip();
+
+		StandardOpenOption mode = rewrite ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND;
+		try (FileChannel channel = FileChannel.open(index.file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, mode)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	private static long chunkKey(int chunkX, int chunkZ) {
+		return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+	public record Entry(int x, int z, LocationProbeService.Verdict verdict, int floorY, int sampleStep) {
+	}
+
+	private static final class WorldIndex {
+		private final File file;
+		private final long seed;
+		private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+		private final List<Entry> pending = new ArrayList<>();
+		private boolean rewrite = false;
+
+		private WorldIndex(File file, long seed) {
+			this.file = file;
+			this.seed = seed;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+public class ProgressBar {
+	private final JavaPlugin plugin;
+	private final LanguageService languageService;
+	private final BossBar.Color color;
+	private final BossBar.Overlay overlay;
+	private final int minUpdateTicks;
+	private final Map<LanguageService.Language, BossBar> bars = new EnumMap<>(LanguageService.Language.class);
+	private final Map<UUID, LanguageService.Language> viewers = new HashMap<>();
+	private Function<LanguageService.Language, Component> title = lang -> Component.empty();
+	private float progress;
+	private int lastPercent = -1;
+	private long lastUpdateTick;
+	private boolean titleChanged;
+	private boolean flushScheduled;
+
+	public ProgressBar(JavaPlugin plugin, LanguageService languageService, BossBar.Color color, BossBar.Overlay overlay, int minUpdateTicks) {
+		this.plugin = plugin;
+		this.languageService = languageService;
+		this.color = color;
+		this.overlay = overlay;
+		this.minUpdateTicks = minUpdateTicks;
+	}
+
+	public synchronized void show(Player viewer) {
+		LanguageService.Language lang = languageService.getLanguage(viewer);
+		LanguageService.Language previous = viewers.put(viewer.getUniqueId(), lang);
+		if (previous == lang) {
+			return;
+		}
+		if (previous != null) {
+			viewer.hideBossBar(bars.get(previous));
+		}
+		viewer.showBossBar(bar(lang));
+	}
+
+	synchronized BossBar bar(LanguageService.Language lang) {
+		return bars.computeIfAbsent(lang, key -> BossBar.bossBar(title.apply(key), progress, color, overlay));
+	}
+
+	public synchronized void hide(Player viewer) {
+		LanguageService.Language lang = viewers.remove(viewer.getUniqueId());
+		if (lang != null) {
+			viewer.hideBossBar(bars.get(lang));
+		}
+	}
+
+	public synchronized void changeLanguage(Player viewer) {
+		if (viewers.containsKey(viewer.getUniqueId())) {
+			show(viewer);
+		}
+	}
+
+	public synchronized void hideAll() {
+		for (Map.Entry<UUID, LanguageService.Language> entry : viewers.entrySet()) {
+			Player viewer = Bukkit.getPlayer(entry.getKey());
+			if (viewer != null) {
+				viewer.hideBossBar(bars.get(entry.getValue()));
+			}
+		}
+		viewers.clear();
+		bars.clear();
+		progress = 0.0f;
+		lastPercent = -1;
+		lastUpdateTick = 0;
+		titleChanged = false;
+		flushScheduled = false;
+	}
+
+	public synchronized void setTitle(Function<LanguageService.Language, Component> title) {
+		this.title = title;
+		titleChanged = false;
+		for (Map.Entry<LanguageService.Language, BossBar> entry : bars.entrySet()) {
+			entry.getValue().name(title.apply(entry.getKey()));
+		}
+	}
+
+	public void setProgress(double progress) {
+		update(progress, null);
+	}
+
+	public void update(double progress, Function<LanguageService.Language, Component> title) {
+		scheduleFlush(update(progress, title, Bukkit.getCurrentTick()));
+	}
+
+	synchronized long update(double progress, Function<LanguageService.Language, Component> title, long tick) {
+		this.progress = (float) Math.max(0.0, Math.min(1.0, progress));
+		if (title != null) {
+			this.title = title;
+			titleChanged = true;
+		}
+		return apply(tick);
+	}
+
+	synchronized long flush(long tick) {
+		if (!flushScheduled) {
+			return 0;
+		}
+		flushScheduled = false;
+		return apply(tick);
+	}
+
+	private void scheduleFlush(long delay) {
+		if (delay > 0) {
+			Bukkit.getScheduler().runTaskLater(plugin, () -> scheduleFlush(flush(Bukkit.getCurrentTick())), delay);
+		}
+	}
+
+	private long apply(long tick) {
+		int percent = Math.round(progress * 100);
+		if (percent == lastPercent && !titleChanged) {
+			return 0;
+		}
+		if (lastPercent >= 0 && percent < 100 && tick - lastUpdateTick < minUpdateTicks) {
+			if (flushScheduled) {
+				return 0;
+			}
+			flushScheduled = true;
+			return minUpdateTicks - (tick - lastUpdateTick);
+		}
+		lastPercent = percent;
+		lastUpdateTick = tick;
+		flushScheduled = false;
+		boolean applyTitle = titleChanged;
+		titleChanged = false;
+		for (Map.Entry<LanguageService.Language, BossBar> entry : bars.entrySet()) {
+			BossBar bar = entry.getValue();
+			bar.progress(progress);
+			if (applyTitle) {
+				bar.name(this.title.apply(entry.getKey()));
+			}
+		}
+		return 0;
+	}
+}
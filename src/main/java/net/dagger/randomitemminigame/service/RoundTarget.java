@@ -0,0 +1,101 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.BitSet;
+import java.util.List;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import org.bukkit.Material;
+
+public final class RoundTarget {
+	private static final int DESCRIBE_LIMIT = 5;
+
+	public enum Mode {
+		SINGLE,
+		ANY,
+		COLLECT
+	}
+
+	private final Mode mode;
+	private final List<Material> items;
+	private final BitSet members = new BitSet();
+	private final int required;
+
+	private RoundTarget(Mode mode, List<Material> items, int required) {
+		this.mode = mode;
+		this.items = List.copyOf(items);
+		this.required = required;
+		for (Material item : this.items) {
+			members.set(item.ordinal());
+		}
+	}
+
+	public static RoundTarget single(Material item) {
+		return new RoundTarget(Mode.SINGLE, List.of(item), 1);
+	}
+
+	public static RoundTarget anyOf(List<Material> items) {
+		return new RoundTarget(Mode.ANY, items, 1);
+	}
+
+	public static RoundTarget collect(List<Material> items, int required) {
+		return new RoundTarget(Mode.COLLECT, items, Math.max(1, Math.min(required, items.size())));
+	}
+
+	public Mode getMode() {
+		return mode;
+	}
+
+	public List<Material> getItems() {
+		return items;
+	}
+
+	public Material getDisplayItem() {
+		return items.get(0);
+	}
+
+	public int getRequired() {
+		return required;
+	}
+
+	public boolean contains(Material material) {
+		return material != null && members.get(material.ordinal());
+	}
+
+	public boolean intersects(BitSet held) {
+		return held.intersects(members);
+	}
+
+	public boolean isSatisfiedBy(BitSet held) {
+		if (required == 1) {
+			return held.intersects(members);
+		}
+		BitSet matched = (BitSet) held.clone();
+		matched.and(members);
+		return matched.cardinality() >= required;
+	}
+
+	public Component describe(LanguageService.Language lang) {
+		if (mode == Mode.SINGLE) {
+			return Component.translatable(getDisplayItem().translationKey());
+		}
+
+		TextComponent.Builder builder = Component.text();
+		if (mode == Mode.ANY) {
+			builder.append(Component.text(Messages.getString(lang, Messages.MessageKey.TARGET_ANY_OF)));
+		} else {
+			builder.append(Component.text(Messages.getString(lang, Messages.MessageKey.TARGET_COLLECT, required, items.size())));
+		}
+		int shown = Math.min(DESCRIBE_LIMIT, items.size());
+		for (int i = 0; i < shown; i++) {
+			if (i > 0) {
+				builder.append(Component.text(", "));
+			}
+			builder.append(Component.translatable(items.get(i).translationKey()));
+		}
+		if (items.size() > shown) {
+			builder.append(Component.text(" +" + (items.size() - shown)));
+		}
+		return builder.build();
+	}
+}
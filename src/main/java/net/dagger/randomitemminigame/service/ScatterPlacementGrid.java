@@ -0,0 +1,163 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.IntSupplier;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+public class ScatterPlacementGrid {
+	private static final int MAX_FALLBACK_AXIS_CELLS = 128;
+
+	private final long minDistanceSq;
+	private final double cellSize;
+	private final int reach;
+	private final int minCoord;
+	private final int maxCoord;
+	private final int[] axisCells;
+	private final Random random = new Random();
+	private final Map<World, Map<Long, List<Location>>> cells = new HashMap<>();
+
+	public ScatterPlacementGrid(int minDistance, int minCoord, int maxCoord) {
+		int distance = Math.max(0, minDistance);
+		this.minDistanceSq = (long) distance * distance;
+		this.cellSize = Math.max(1.0, distance / Math.sqrt(2.0));
+		this.reach = (int) Math.ceil(distance / cellSize);
+		this.minCoord = Math.max(0, minCoord);
+		this.maxCoord = this.minCoord + Math.max(1, maxCoord - minCoord);
+		this.axisCells = axisCells();
+	}
+
+	public synchronized Candidate sample(World world, IntSupplier coordinate, int draws) {
+		int x = 0;
+		int z = 0;
+		for (int i = 0; i < Math.max(1, draws); i++) {
+			x = coordinate.getAsInt();
+			z = coordinate.getAsInt();
+			if (isFarEnough(world, x, z)) {
+				return new Candidate(x, z, true);
+			}
+		}
+		Candidate free = sampleFreeCell(world);
+		return free != null ? free : new Candidate(x, z, false);
+	}
+
+	private Candidate sampleFreeCell(World world) {
+		if (axisCells == null) {
+			return null;
+		}
+		int side = axisCells.length;
+		int[] order = new int[side * side];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		for (int remaining = order.length; remaining > 0; remaining--) {
+			int pick = random.nextInt(remaining);
+			int index = order[pick];
+			order[pick] = order[remaining - 1];
+			int cellX = axisCells[index / side];
+			int cellZ = axisCells[index % side];
+			int x = coordinateIn(cellX);
+			int z = coordinateIn(cellZ);
+			if (isFarEnough(world, x, z)) {
+				return new Candidate(x, z, true);
+			}
+		}
+		return null;
+	}
+
+	private int[] axisCells() {
+		if (minDistanceSq == 0 || (maxCoord - minCoord) / cellSize > MAX_FALLBACK_AXIS_CELLS) {
+			return null;
+		}
+		TreeSet<Integer> indices = new TreeSet<>();
+		for (int cell = cell(minCoord); cell <= cell(maxCoord); cell++) {
+			indices.add(cell);
+		}
+		for (int cell = cell(-maxCoord); cell <= cell(-minCoord); cell++) {
+			indices.add(cell);
+		}
+		return indices.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private int coordinateIn(int cell) {
+		int low = (int) Math.ceil(cell * cellSize);
+		int high = (int) Math.ceil((cell + 1) * cellSize) - 1;
+		int positiveLow = Math.max(low, minCoord);
+		int positiveHigh = Math.min(high, maxCoord);
+		if (positiveLow <= positiveHigh) {
+			return positiveLow + random.nextInt(positiveHigh - positiveLow + 1);
+		}
+		int negativeLow = Math.max(low, -maxCoord);
+		int negativeHigh = Math.min(high, -minCoord);
+		return negativeLow + random.nextInt(negativeHigh - negativeLow + 1);
+	}
+
+	public synchronized boolean isFarEnough(World world, int x, int z) {
+		Map<Long, List<Location>> worldCells = cells.get(world);
+		if (worldCells == null || minDistanceSq == 0) {
+			return true;
+		}
+
+		int cellX = cell(x);
+		int cellZ = cell(z);
+		for (int dx = -reach; dx <= reach; dx++) {
+			for (int dz = -reach; dz <= reach; dz++) {
+				List<Location> occupants = worldCells.get(ChunkKeySet.pack(cellX + dx, cellZ + dz));
+				if (occupants == null) {
+					continue;
+				}
+				for (Location existing : occupants) {
+					double distanceX = existing.getX() - x;
+					double distanceZ = existing.getZ() - z;
+					if (distanceX * distanceX + distanceZ * distanceZ < minDistanceSq) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	public synchronized boolean tryReserve(Location location) {
+		if (!isFarEnough(location.getWorld(), location.getBlockX(), location.getBlockZ())) {
+			return false;
+		}
+		add(location);
+		return true;
+	}
+
+	public synchronized void add(Location location) {
+		cells.computeIfAbsent(location.getWorld(), id -> new HashMap<>())
+				.computeIfAbsent(key(location), id -> new ArrayList<>(1))
+				.add(location);
+	}
+
+	public synchronized void release(Location location) {
+		Map<Long, List<Location>> worldCells = cells.get(location.getWorld());
+		if (worldCells == null) {
+			return;
+		}
+		long key = key(location);
+		List<Location> occupants = worldCells.get(key);
+		if (occupants != null && occupants.remove(location) && occupants.isEmpty()) {
+			worldCells.remove(key);
+		}
+	}
+
+	private long key(Location location) {
+		return ChunkKeySet.pack(cell(location.getBlockX()), cell(location.getBlockZ()));
+	}
+
+	private int cell(int coordinate) {
+		return (int) Math.floor(coordinate / cellSize);
+	}
+
+	public record Candidate(int x, int z, boolean farEnough) {
+	}
+}
@@ -0,0 +1,9 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.List;
+
+public record ScatterSettings(int minScatterCoord, int maxScatterCoord, int minScatterDistance, int searchConcurrency, int spawnPoolSize,
+		int spawnPoolTickBudgetMs, int sampleStep,
+		int chunkLoadMaxInFlight, int chunkLoadTargetMspt, int readyRadius, boolean streamingScatter, int chunkPinSeconds,
+		int chunkResendPerTick, int chunkResendKbPerTick, List<String> biomeAllow, List<String> biomeDeny) {
+}
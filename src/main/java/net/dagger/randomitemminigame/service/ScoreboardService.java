@@ -1,151 +1,179 @@
 package net.dagger.randomitemminigame.service;
 
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 
+import io.papermc.paper.scoreboard.numbers.NumberFormat;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scoreboard.Criteria;
 import org.bukkit.scoreboard.DisplaySlot;
 import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Score;
 import org.bukkit.scoreboard.Scoreboard;
 
 public class ScoreboardService {
-	private final LanguageService languageService;
-	private final Map<UUID, Scoreboard> playerScoreboards = new HashMap<>();
-	private final Map<UUID, Objective> playerObjectives = new HashMap<>();
-	private final Map<UUID, String> lastTimerKeys = new HashMap<>();
+	private static final String TIMER_ENTRY = "#timer";
+	private static final int TIMER_SCORE = 99;
 
-	public ScoreboardService(LanguageService languageService) {
+	private final JavaPlugin plugin;
+	private final LanguageService languageService;
+	private final Map<LanguageService.Language, Objective> languageObjectives = new EnumMap<>(LanguageService.Language.class);
+	private final Map<LanguageService.Language, Score> timerScores = new EnumMap<>(LanguageService.Language.class);
+	private final Map<LanguageService.Language, Component> timerPrefixes = new EnumMap<>(LanguageService.Language.class);
+	private final Map<UUID, LanguageService.Language> viewers = new HashMap<>();
+	private final Map<String, Integer> scores = new HashMap<>();
+	private final Map<String, Integer> pendingScores = new LinkedHashMap<>();
+	private String timeString = "00:00";
+
+	public ScoreboardService(JavaPlugin plugin, LanguageService languageService) {
+		this.plugin = plugin;
 		this.languageService = languageService;
 	}
 
 	public void createScoreboard(Map<UUID, Integer> playerLives) {
 		clear();
 
+		for (Map.Entry<UUID, Integer> entry : playerLives.entrySet()) {
+			Player target = Bukkit.getPlayer(entry.getKey());
+			if (target != null) {
+				scores.put(target.getName(), entry.getValue());
+			}
+		}
+
 		for (Player player : Bukkit.getOnlinePlayers()) {
-			createPlayerScoreboard(player, playerLives);
+			attach(player, languageService.getLanguage(player));
 		}
 	}
 
-	private void createPlayerScoreboard(Player viewer, Map<UUID, Integer> allLives) {
-		Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
-		LanguageService.Language playerLang = languageService.getLanguage(viewer);
-		Objective objective = scoreboard.registerNewObjective("lives", Criteria.DUMMY,
-				Messages.get(playerLang, Messages.MessageKey.LIVES));
-		objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+	private Objective getObjective(LanguageService.Language lang) {
+		return languageObjectives.computeIfAbsent(lang, key -> {
+			Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+			Objective objective = scoreboard.registerNewObjective("lives", Criteria.DUMMY,
+					Messages.get(key, Messages.MessageKey.LIVES));
+			objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+			Score timer = objective.getScore(TIMER_ENTRY);
+			timer.setScore(TIMER_SCORE);
+			timer.numberFormat(NumberFormat.blank());
+			timerPrefixes.put(key, Messages.get(key, Messages.MessageKey.TIME));
+			timerScores.put(key, timer);
+			timer.customName(timerLine(key));
+			for (Map.Entry<String, Integer> entry : scores.entrySet()) {
+				objective.getScore(entry.getKey()).setScore(entry.getValue());
+			}
+			return objective;
+		});
+	}
 
-		playerScoreboards.put(viewer.getUniqueId(), scoreboard);
-		playerObjectives.put(viewer.getUniqueId(), objective);
+	private void attach(Player viewer, LanguageService.Language lang) {
+		Objective objective = getObjective(lang);
+		viewers.put(viewer.getUniqueId(), lang);
+		viewer.setScoreboard(objective.getScoreboard());
+	}
 
-		for (Map.Entry<UUID, Integer> entry : allLives.entrySet()) {
-			Player target = Bukkit.getPlayer(entry.getKey());
-			if (target != null) {
-				objective.getScore(target.getName()).setScore(entry.getValue());
-			}
+	public void onLivesChanged(LivesService.LivesChange change) {
+		if (change.oldLives() == change.newLives() || languageObjectives.isEmpty()) {
+			return;
+		}
+		boolean wasEmpty = pendingScores.isEmpty();
+		pendingScores.put(change.playerName(), change.newLives());
+		if (wasEmpty) {
+			Bukkit.getScheduler().runTask(plugin, this::flushPendingScores);
 		}
+	}
 
-		viewer.setScoreboard(scoreboard);
+	private void flushPendingScores() {
+		for (Map.Entry<String, Integer> entry : pendingScores.entrySet()) {
+			setScore(entry.getKey(), entry.getValue());
+		}
+		pendingScores.clear();
 	}
 
-	public void updatePlayerLives(Player targetPlayer, int lives) {
-		String targetName = targetPlayer.getName();
+	private void setScore(String targetName, int lives) {
+		Integer previous = scores.put(targetName, lives);
+		if (previous != null && previous == lives) {
+			return;
+		}
 
-		for (Objective objective : playerObjectives.values()) {
+		for (Objective objective : languageObjectives.values()) {
 			objective.getScore(targetName).setScore(lives);
 		}
 	}
 
-	public void updateAllPlayersLives(Map<UUID, Integer> playerLives) {
-		for (Map.Entry<UUID, Integer> entry : playerLives.entrySet()) {
-			Player player = Bukkit.getPlayer(entry.getKey());
-			if (player != null) {
-				updatePlayerLives(player, entry.getValue());
-			}
+	public void updateTimer(String timeString) {
+		if (timeString.equals(this.timeString)) {
+			return;
+		}
+		this.timeString = timeString;
+		for (Map.Entry<LanguageService.Language, Score> entry : timerScores.entrySet()) {
+			entry.getValue().customName(timerLine(entry.getKey()));
 		}
 	}
 
-	public void updateTimer(String timeString) {
-		for (UUID playerId : playerScoreboards.keySet()) {
-			Player player = Bukkit.getPlayer(playerId);
-			if (player == null || !player.isOnline()) {
-				continue;
-			}
-
-			Objective objective = playerObjectives.get(playerId);
-			Scoreboard scoreboard = playerScoreboards.get(playerId);
-			if (objective == null || scoreboard == null) {
-				continue;
-			}
-
-			String lastTimerKey = lastTimerKeys.get(playerId);
-			if (lastTimerKey != null) {
-				scoreboard.resetScores(lastTimerKey);
-			}
-			lastTimerKeys.remove(playerId);
-		}
+	private Component timerLine(LanguageService.Language lang) {
+		return timerPrefixes.get(lang).append(Component.text(timeString, NamedTextColor.WHITE));
 	}
-	
+
 	public void updateLanguage(Player viewer, LanguageService.Language newLang) {
-		if (viewer == null || newLang == null) {
-			return;
-		}
-		Objective objective = playerObjectives.get(viewer.getUniqueId());
-		if (objective == null) {
+		if (viewer == null || newLang == null || !viewers.containsKey(viewer.getUniqueId())) {
 			return;
 		}
-		objective.displayName(Messages.get(newLang, Messages.MessageKey.LIVES));
+		attach(viewer, newLang);
 	}
 
 	public void removePlayer(Player player) {
-		UUID playerId = player.getUniqueId();
-
-		Scoreboard scoreboard = playerScoreboards.remove(playerId);
-		Objective objective = playerObjectives.remove(playerId);
-		lastTimerKeys.remove(playerId);
-
-		if (scoreboard != null && objective != null) {
-			objective.unregister();
-		}
+		viewers.remove(player.getUniqueId());
+		scores.remove(player.getName());
+		pendingScores.remove(player.getName());
 
 		player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
 
-		for (Objective obj : playerObjectives.values()) {
-			obj.getScoreboard().resetScores(player.getName());
+		for (Objective objective : languageObjectives.values()) {
+			objective.getScoreboard().resetScores(player.getName());
 		}
 	}
 
 	public void clear() {
 		for (Player player : Bukkit.getOnlinePlayers()) {
-			UUID playerId = player.getUniqueId();
-			if (playerScoreboards.containsKey(playerId)) {
+			if (viewers.containsKey(player.getUniqueId())) {
 				player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
 			}
 		}
 
-		for (Objective objective : playerObjectives.values()) {
-			if (objective != null) {
-				objective.unregister();
-			}
+		for (Objective objective : languageObjectives.values()) {
+			objective.unregister();
 		}
 
-		playerScoreboards.clear();
-		playerObjectives.clear();
-		lastTimerKeys.clear();
+		languageObjectives.clear();
+		timerScores.clear();
+		timerPrefixes.clear();
+		timeString = "00:00";
+		viewers.clear();
+		scores.clear();
+		pendingScores.clear();
 	}
 
 	public Scoreboard getScoreboard() {
-		if (!playerScoreboards.isEmpty()) {
-			return playerScoreboards.values().iterator().next();
+		if (!languageObjectives.isEmpty()) {
+			return languageObjectives.values().iterator().next().getScoreboard();
 		}
 		return null;
 	}
 
 	public void addViewer(Player viewer, Map<UUID, Integer> currentLives) {
-		if (playerScoreboards.containsKey(viewer.getUniqueId())) {
+		if (viewers.containsKey(viewer.getUniqueId())) {
 			return;
 		}
-		createPlayerScoreboard(viewer, currentLives);
+		Integer lives = currentLives.get(viewer.getUniqueId());
+		if (lives != null && !scores.containsKey(viewer.getName())) {
+			setScore(viewer.getName(), lives);
+		}
+		attach(viewer, languageService.getLanguage(viewer));
 	}
 }
@@ -0,0 +1,120 @@
+package net.dagger.randomitemminigame.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+public class SpawnPoolService {
+	private static final long FILL_PERIOD_TICKS = 10L;
+
+	private final JavaPlugin plugin;
+	private final LocationProbeService locationProbeService;
+	private final ProbeIndexService probeIndexService;
+	private final Supplier<Boolean> canFillSupplier;
+	private final int capacity;
+	private final double tickBudgetMs;
+	private final Map<UUID, Deque<Location>> pools = new HashMap<>();
+	private final Map<UUID, Deque<Location>> indexedCandidates = new HashMap<>();
+	private BukkitRunnable fillTask;
+	private boolean probeInFlight = false;
+
+	public SpawnPoolService(JavaPlugin plugin, LocationProbeService locationProbeService, ProbeIndexService probeIndexService,
+			Supplier<Boolean> canFillSupplier, ScatterSettings settings) {
+		this.plugin = plugin;
+		this.locationProbeService = locationProbeService;
+		this.probeIndexService = probeIndexService;
+		this.canFillSupplier = canFillSupplier;
+		this.capacity = Math.max(0, settings.spawnPoolSize());
+		this.tickBudgetMs = settings.spawnPoolTickBudgetMs();
+	}
+
+	public void start() {
+		stop();
+		if (capacity <= 0) {
+			return;
+		}
+		fillTask = new BukkitRunnable() {
+			@Override
+			public void run() {
+				fillStep();
+			}
+		};
+		fillTask.runTaskTimer(plugin, FILL_PERIOD_TICKS, FILL_PERIOD_TICKS);
+	}
+
+	public void stop() {
+		if (fillTask != null) {
+			fillTask.cancel();
+			fillTask = null;
+		}
+	}
+
+	private void fillStep() {
+		if (probeInFlight || !canFillSupplier.get() || Bukkit.getWorlds().isEmpty()) {
+			return;
+		}
+		if (Bukkit.getAverageTickTime() > tickBudgetMs) {
+			return;
+		}
+
+		World world = Bukkit.getWorlds().get(0);
+		if (size(world) >= capacity) {
+			return;
+		}
+
+		probeInFlight = true;
+		Deque<Location> candidates = indexedCandidates.computeIfAbsent(world.getUID(), id -> new ArrayDeque<>(probeIndexService.safeLocations(world)));
+		Location candidate = candidates.pollFirst();
+		int x = candidate != null ? candidate.getBlockX() : locationProbeService.randomScatterCoordinate();
+		int z = candidate != null ? candidate.getBlockZ() : locationProbeService.randomScatterCoordinate();
+		locationProbeService.probe(world, x, z, false).whenComplete((result, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> {
+			probeInFlight = false;
+			if (throwable != null) {
+				plugin.getLogger().warning("Ошибка прогрева пула точек спавна: " + throwable.getMessage());
+				return;
+			}
+			if (result.isSafe() && canFillSupplier.get()) {
+				offer(result.toLocation(world));
+			}
+		}));
+	}
+
+	public synchronized Location take(World world, Predicate<Location> accept) {
+		Deque<Location> pool = pools.get(world.getUID());
+		if (pool == null) {
+			return null;
+		}
+		Iterator<Location> iterator = pool.iterator();
+		while (iterator.hasNext()) {
+			Location location = iterator.next();
+			if (accept.test(location)) {
+				iterator.remove();
+				return location;
+			}
+		}
+		return null;
+	}
+
+	public synchronized int size(World world) {
+		Deque<Location> pool = pools.get(world.getUID());
+		return pool == null ? 0 : pool.size();
+	}
+
+	private synchronized void offer(Location location) {
+		Deque<Location> pool = pools.computeIfAbsent(location.getWorld().getUID(), id -> new ArrayDeque<>());
+		if (pool.size() < capacity) {
+			pool.addLast(location);
+		}
+	}
+}
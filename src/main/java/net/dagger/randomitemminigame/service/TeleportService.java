@@ -1,74 +1,72 @@
 package net.dagger.randomitemminigame.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
-import org.bukkit.boss.BarColor;
-import org.bukkit.boss.BarStyle;
-import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public class TeleportService {
-	private final int minScatterCoord;
-	private final int maxScatterCoord;
-	private static final int MIN_PLAYER_DISTANCE = 10000;
+	private final int searchConcurrency;
+	private final int readyRadius;
+	private final boolean streamingScatter;
+	private final int minPlayerDistance;
 	private static final int SAFE_LOCATION_ATTEMPTS = 256;
+	private static final int PRELOAD_RADIUS = 12;
+	private static final int PLACEMENT_DRAWS = 64;
+	private static final int LOADING_BAR_UPDATE_TICKS = 10;
 	private final JavaPlugin plugin;
 	private final LanguageService languageService;
 	private final Consumer<Component> participantBroadcast;
+	private final LocationProbeService locationProbeService;
+	private final SpawnPoolService spawnPoolService;
+	private final ChunkLoadScheduler chunkLoadScheduler;
+	private final ChunkTicketService chunkTicketService;
+	private final ChunkResendService chunkResendService;
+	private final ProbeFeedbackService probeFeedbackService;
 	private final Random random = new Random();
-	private final Map<LanguageService.Language, BossBar> currentBossBars = new HashMap<>();
+	private final ChunkKeySet resendArea = new ChunkKeySet((PRELOAD_RADIUS * 2 + 1) * (PRELOAD_RADIUS * 2 + 1));
+	private volatile ProgressBar currentBossBar;
 	private volatile boolean cancelled = false;
 	private volatile boolean debugEnabled = false;
+	private volatile CompletableFuture<Void> backgroundPreload;
 	private final List<CompletableFuture<?>> activeOperations = new CopyOnWriteArrayList<>();
 
-	private static final Set<Material> UNSAFE_FLOOR_BLOCKS = EnumSet.of(
-			Material.LAVA,
-			Material.WATER,
-			Material.KELP,
-			Material.KELP_PLANT,
-			Material.SEAGRASS,
-			Material.TALL_SEAGRASS,
-			Material.BUBBLE_COLUMN,
-			Material.CACTUS,
-			Material.MAGMA_BLOCK,
-			Material.CAMPFIRE,
-			Material.SOUL_CAMPFIRE,
-			Material.FIRE,
-			Material.SOUL_FIRE,
-			Material.POWDER_SNOW,
-			Material.SWEET_BERRY_BUSH,
-			Material.COBWEB,
-			Material.WITHER_ROSE
-	);
-
-	public TeleportService(JavaPlugin plugin, LanguageService languageService, Consumer<Component> participantBroadcast, int minScatterCoord, int maxScatterCoord) {
+	public TeleportService(JavaPlugin plugin, LanguageService languageService, Consumer<Component> participantBroadcast,
+			LocationProbeService locationProbeService, SpawnPoolService spawnPoolService, ChunkLoadScheduler chunkLoadScheduler,
+			ChunkTicketService chunkTicketService, ChunkResendService chunkResendService, ProbeFeedbackService probeFeedbackService,
+			ScatterSettings settings) {
 		this.plugin = plugin;
 		this.languageService = languageService;
 		this.participantBroadcast = participantBroadcast;
-		this.minScatterCoord = minScatterCoord;
-		this.maxScatterCoord = maxScatterCoord;
+		this.locationProbeService = locationProbeService;
+		this.spawnPoolService = spawnPoolService;
+		this.chunkLoadScheduler = chunkLoadScheduler;
+		this.chunkTicketService = chunkTicketService;
+		this.chunkResendService = chunkResendService;
+		this.probeFeedbackService = probeFeedbackService;
+		this.searchConcurrency = Math.max(1, settings.searchConcurrency());
+		this.readyRadius = Math.min(PRELOAD_RADIUS, Math.max(0, settings.readyRadius()));
+		this.streamingScatter = settings.streamingScatter();
+		this.minPlayerDistance = Math.max(0, settings.minScatterDistance());
 	}
 
 	public CompletableFuture<Void> scatterPlayers(List<Player> players) {
@@ -80,32 +78,40 @@ public class TeleportService {
 			}
 		}
 		activeOperations.clear();
+		chunkLoadScheduler.cancelQueued();
+		chunkResendService.reset();
 		cancelled = false;
-		Map<LanguageService.Language, BossBar> scatterBars = createScatterBossBar(players, players.size());
-		currentBossBars.putAll(scatterBars);
-		CompletableFuture<Void> mainFuture = teleportPlayers(players, scatterBars);
+		backgroundPreload = null;
+		probeFeedbackService.open(players);
+		ProgressBar scatterBar = createScatterBossBar(players, players.size());
+		currentBossBar = scatterBar;
+		CompletableFuture<Void> mainFuture = teleportPlayers(players, scatterBar);
 		trackOperation(mainFuture);
 		return mainFuture.whenComplete((ignored, throwable) -> {
-			hideScatterBossBar(scatterBars, throwable == null && !cancelled);
-			if (currentBossBars.equals(scatterBars)) {
-				currentBossBars.clear();
-			} else {
-				for (BossBar bar : scatterBars.values()) {
-					if (currentBossBars.containsValue(bar)) {
-						currentBossBars.values().remove(bar);
-					}
-				}
-			}
 			activeOperations.remove(mainFuture);
+			CompletableFuture<Void> streaming = backgroundPreload;
+			if (throwable == null && !cancelled && streaming != null && !streaming.isDone()) {
+				streaming.whenComplete((done, error) -> Bukkit.getScheduler().runTask(plugin,
+						() -> releaseScatterBossBar(scatterBar, error == null && !cancelled)));
+				return;
+			}
+			releaseScatterBossBar(scatterBar, throwable == null && !cancelled);
 		});
 	}
 
-	private CompletableFuture<Void> teleportPlayers(List<Player> players, Map<LanguageService.Language, BossBar> scatterBars) {
+	private void releaseScatterBossBar(ProgressBar scatterBar, boolean success) {
+		hideScatterBossBar(scatterBar, success);
+		if (currentBossBar == scatterBar) {
+			currentBossBar = null;
+		}
+	}
+
+	private CompletableFuture<Void> teleportPlayers(List<Player> players, ProgressBar scatterBar) {
 		if (players.isEmpty() || cancelled) {
 			return CompletableFuture.completedFuture(null);
 		}
 
-		CompletableFuture<List<PlayerScatterTarget>> targetsFuture = prepareScatterTargets(players, new ArrayList<>(), 0, scatterBars);
+		CompletableFuture<List<PlayerScatterTarget>> targetsFuture = prepareScatterTargets(players, scatterBar);
 		trackOperation(targetsFuture);
 		return targetsFuture.thenCompose(targets -> {
 			if (cancelled) {
@@ -129,6 +135,10 @@ public class TeleportService {
 				}
 			});
 
+			if (streamingScatter) {
+				return streamPlayers(targetsList);
+			}
+
 			CompletableFuture<Void> chunksFuture = preloadAllChunksParallel(targetsList, targetsList);
 			trackOperation(chunksFuture);
 			return chunksFuture.thenRun(() -> Bukkit.getScheduler().runTask(plugin, () -> {
@@ -137,36 +147,7 @@ public class TeleportService {
 				}
 
 				for (PlayerScatterTarget target : targetsList) {
-					Player player = Bukkit.getPlayer(target.playerId());
-					if (player == null || !player.isOnline()) {
-						continue;
-					}
-
-					plugin.getLogger().info(String.format("[LootRush] Teleporting %s to %.1f %.1f %.1f",
-							player.getName(), target.location().getX(), target.location().getY(), target.location().getZ()));
-					player.teleport(target.location());
-					player.getInventory().clear();
-					player.getInventory().setArmorContents(new org.bukkit.inventory.ItemStack[] { null, null, null, null });
-					player.getInventory().setItemInOffHand(null);
-					player.setRespawnLocation(target.location(), true);
-
-					refreshChunksForPlayer(player, target.location());
-
-					Bukkit.getScheduler().runTaskLater(plugin, () -> {
-						if (player.isOnline() && !cancelled) {
-							player.setInvulnerable(true);
-							player.setNoDamageTicks(Integer.MAX_VALUE);
-							Bukkit.getScheduler().runTaskLater(plugin, () -> {
-								if (player.isOnline() && !cancelled) {
-									player.setInvulnerable(false);
-									player.setNoDamageTicks(20);
-								}
-							}, 500L);
-						}
-					}, 1L);
-
-					LanguageService.Language lang = languageService.getLanguage(player);
-					player.sendMessage(Messages.get(lang, Messages.MessageKey.TELEPORTED_TO, formatLocation(target.location())));
+					teleportToTarget(target);
 				}
 			})).whenComplete((ignored, throwable) -> {
 				activeOperations.remove(chunksFuture);
@@ -176,10 +157,73 @@ public class TeleportService {
 		});
 	}
 
-	private CompletableFuture<List<PlayerScatterTarget>> prepareScatterTargets(List<Player> players, List<PlayerScatterTarget> accumulator, int index,
-			Map<LanguageService.Language, BossBar> scatterBars) {
-		if (cancelled || index >= players.size()) {
-			return CompletableFuture.completedFuture(new ArrayList<>(accumulator));
+	private void teleportToTarget(PlayerScatterTarget target) {
+		Player player = Bukkit.getPlayer(target.playerId());
+		if (player == null || !player.isOnline()) {
+			return;
+		}
+
+		plugin.getLogger().info(String.format("[LootRush] Teleporting %s to %.1f %.1f %.1f",
+				player.getName(), target.location().getX(), target.location().getY(), target.location().getZ()));
+		player.teleport(target.location());
+		player.getInventory().clear();
+		player.getInventory().setArmorContents(new org.bukkit.inventory.ItemStack[] { null, null, null, null });
+		player.getInventory().setItemInOffHand(null);
+		player.setRespawnLocation(target.location(), true);
+
+		requestResendAround(target.location().getWorld(), target.location().getBlockX() >> 4, target.location().getBlockZ() >> 4);
+
+		Bukkit.getScheduler().runTaskLater(plugin, () -> {
+			if (player.isOnline() && !cancelled) {
+				player.setInvulnerable(true);
+				player.setNoDamageTicks(Integer.MAX_VALUE);
+				Bukkit.getScheduler().runTaskLater(plugin, () -> {
+					if (player.isOnline() && !cancelled) {
+						player.setInvulnerable(false);
+						player.setNoDamageTicks(20);
+					}
+				}, 500L);
+			}
+		}, 1L);
+
+		LanguageService.Language lang = languageService.getLanguage(player);
+		player.sendMessage(Messages.get(lang, Messages.MessageKey.TELEPORTED_TO, formatLocation(target.location())));
+	}
+
+	private CompletableFuture<List<PlayerScatterTarget>> prepareScatterTargets(List<Player> players, ProgressBar scatterBar) {
+		if (cancelled || players.isEmpty()) {
+			return CompletableFuture.completedFuture(new ArrayList<>());
+		}
+
+		CompletableFuture<List<PlayerScatterTarget>> doneFuture = new CompletableFuture<>();
+		PlayerScatterTarget[] results = new PlayerScatterTarget[players.size()];
+		ScatterPlacementGrid placementGrid = new ScatterPlacementGrid(minPlayerDistance,
+				locationProbeService.getMinScatterCoord(), locationProbeService.getMaxScatterCoord());
+		AtomicInteger nextIndex = new AtomicInteger();
+		AtomicInteger readyCount = new AtomicInteger();
+
+		updateScatterBossBar(scatterBar, 0, players.size());
+		int parallelSearches = Math.min(searchConcurrency, players.size());
+		for (int i = 0; i < parallelSearches; i++) {
+			startNextScatterSearch(players, results, placementGrid, nextIndex, readyCount, scatterBar, doneFuture);
+		}
+		return doneFuture;
+	}
+
+	private void startNextScatterSearch(List<Player> players, PlayerScatterTarget[] results, ScatterPlacementGrid placementGrid,
+			AtomicInteger nextIndex, AtomicInteger readyCount, ProgressBar scatterBar,
+			CompletableFuture<List<PlayerScatterTarget>> doneFuture) {
+		if (doneFuture.isDone()) {
+			return;
+		}
+		if (cancelled) {
+			doneFuture.complete(collectScatterTargets(results));
+			return;
+		}
+
+		int index = nextIndex.getAndIncrement();
+		if (index >= players.size()) {
+			return;
 		}
 
 		Player player = players.get(index);
@@ -187,17 +231,21 @@ public class TeleportService {
 			LanguageService.Language participantLang = languageService.getLanguage(participant);
 			participant.sendMessage(Messages.get(participantLang, Messages.MessageKey.SEARCHING_LOCATION, player.getName()));
 		}
-		updateScatterBossBar(scatterBars, accumulator.size(), players.size(), player.getName(), true);
-		List<Location> existingLocations = accumulator.stream()
-				.map(PlayerScatterTarget::location)
-				.toList();
 
-		CompletableFuture<Location> locationFuture = findRandomLocationAsync(player.getWorld(), existingLocations, player.getName(), players);
+		CompletableFuture<Location> locationFuture = findRandomLocationAsync(player.getWorld(), placementGrid, player.getName(), players);
 		trackOperation(locationFuture);
-		return locationFuture.thenCompose(location -> {
+		locationFuture.whenComplete((location, throwable) -> {
+			activeOperations.remove(locationFuture);
+			if (doneFuture.isDone()) {
+				return;
+			}
 			if (cancelled) {
-				activeOperations.remove(locationFuture);
-				return CompletableFuture.completedFuture(new ArrayList<>(accumulator));
+				doneFuture.complete(collectScatterTargets(results));
+				return;
+			}
+			if (throwable != null) {
+				doneFuture.completeExceptionally(throwable);
+				return;
 			}
 
 			for (Player participant : players) {
@@ -208,24 +256,66 @@ public class TeleportService {
 					participant.sendMessage(Messages.get(participantLang, Messages.MessageKey.LOCATION_FOUND_BRIEF, player.getName()));
 				}
 			}
-			accumulator.add(new PlayerScatterTarget(player.getUniqueId(), location));
-			updateScatterBossBar(scatterBars, accumulator.size(), players.size(), player.getName(), false);
-			CompletableFuture<List<PlayerScatterTarget>> nextFuture = prepareScatterTargets(players, accumulator, index + 1, scatterBars);
-			nextFuture.whenComplete((ignored, throwable) -> {
-				activeOperations.remove(locationFuture);
-			});
-			return nextFuture;
+			results[index] = new PlayerScatterTarget(player.getUniqueId(), location);
+			int ready = readyCount.incrementAndGet();
+			updateScatterBossBar(scatterBar, ready, players.size());
+			if (ready >= players.size()) {
+				doneFuture.complete(collectScatterTargets(results));
+				return;
+			}
+			startNextScatterSearch(players, results, placementGrid, nextIndex, readyCount, scatterBar, doneFuture);
 		});
 	}
 
-	private CompletableFuture<Location> findRandomLocationAsync(World world, List<Location> existingLocations, String playerName, List<Player> participants) {
+	private List<PlayerScatterTarget> collectScatterTargets(PlayerScatterTarget[] results) {
+		List<PlayerScatterTarget> targets = new ArrayList<>();
+		for (PlayerScatterTarget target : results) {
+			if (target != null) {
+				targets.add(target);
+			}
+		}
+		return targets;
+	}
+
+	private CompletableFuture<Location> findRandomLocationAsync(World world, ScatterPlacementGrid placementGrid, String playerName, List<Player> participants) {
 		CompletableFuture<Location> future = new CompletableFuture<>();
 		trackOperation(future);
-		findRandomLocationAttempt(world, existingLocations, future, 0, playerName, participants);
+		tryPooledLocation(world, placementGrid, future, playerName, participants);
 		return future;
 	}
 
-	private void findRandomLocationAttempt(World world, List<Location> existingLocations, CompletableFuture<Location> future, int attempt,
+	private void tryPooledLocation(World world, ScatterPlacementGrid placementGrid, CompletableFuture<Location> future,
+			String playerName, List<Player> participants) {
+		if (cancelled || future.isDone()) {
+			return;
+		}
+
+		Location pooled = spawnPoolService.take(world, placementGrid::tryReserve);
+		if (pooled == null) {
+			findRandomLocationAttempt(world, placementGrid, future, 0, playerName, participants);
+			return;
+		}
+
+		locationProbeService.probe(world, pooled.getBlockX(), pooled.getBlockZ(), true).whenComplete((result, throwable) -> {
+			if (cancelled || future.isDone()) {
+				return;
+			}
+			placementGrid.release(pooled);
+			if (throwable == null && result.isSafe()) {
+				Location location = result.toLocation(world);
+				if (placementGrid.tryReserve(location)) {
+					if (debugEnabled) {
+						plugin.getLogger().info("[LootRush] " + playerName + " <- spawn pool " + formatLocation(location));
+					}
+					completeWithLocation(location, future);
+					return;
+				}
+			}
+			tryPooledLocation(world, placementGrid, future, playerName, participants);
+		});
+	}
+
+	private void findRandomLocationAttempt(World world, ScatterPlacementGrid placementGrid, CompletableFuture<Location> future, int attempt,
 			String playerName, List<Player> participants) {
 		if (cancelled || future.isDone()) {
 			if (cancelled && !future.isDone()) {
@@ -239,179 +329,108 @@ public class TeleportService {
 					+ " попыток. Используем резервный вариант.");
 			Bukkit.getScheduler().runTask(plugin, () -> {
 				if (!cancelled && !future.isDone()) {
-					future.complete(fallbackRandomLocation(world, existingLocations));
+					future.complete(fallbackRandomLocation(world, placementGrid));
 				}
 			});
 			return;
 		}
 
-		int x = randomCoordinate();
-		int z = randomCoordinate();
-
-		if (!isFarEnough(x, z, world, existingLocations)) {
-			if (!cancelled && participants != null) {
-				for (Player participant : participants) {
-					if (participant != null && participant.isOnline()) {
-						LanguageService.Language participantLang = languageService.getLanguage(participant);
-						participant.sendMessage(Messages.get(participantLang, Messages.MessageKey.ATTEMPT_TOO_CLOSE, attempt + 1, playerName, x, z));
-					}
-				}
+		ScatterPlacementGrid.Candidate candidate = placementGrid.sample(world, locationProbeService::randomScatterCoordinate, PLACEMENT_DRAWS);
+		int x = candidate.x();
+		int z = candidate.z();
+		if (!candidate.farEnough()) {
+			if (!cancelled) {
+				probeFeedbackService.record(Messages.MessageKey.ATTEMPT_TOO_CLOSE, attempt + 1, playerName, x, z);
 			}
-			findRandomLocationAttempt(world, existingLocations, future, attempt + 1, playerName, participants);
+			findRandomLocationAttempt(world, placementGrid, future, attempt + 1, playerName, participants);
 			return;
 		}
 
-		int chunkX = x >> 4;
-		int chunkZ = z >> 4;
-
-		preloadSurroundingChunks(world, chunkX, chunkZ).thenCompose(ignore ->
-				world.getChunkAtAsyncUrgently(chunkX, chunkZ)
-		).thenAccept(chunk -> {
+		locationProbeService.probe(world, x, z, true).thenAccept(result -> {
 			if (cancelled || future.isDone()) {
 				return;
 			}
 
-			Bukkit.getScheduler().runTask(plugin, () -> {
-				if (cancelled || future.isDone()) {
-					return;
-				}
-
-				int floorY = world.getHighestBlockYAt(x, z);
-				if (floorY <= world.getMinHeight()) {
+			if (result.verdict() == LocationProbeService.Verdict.Y_TOO_LOW) {
+				if (debugEnabled) {
 					LanguageService.Language defaultLang = languageService.getDefaultLanguage();
 					String message = Messages.getString(defaultLang, Messages.MessageKey.ATTEMPT_Y_TOO_LOW, attempt + 1, playerName, x, z);
 					plugin.getLogger().info("[LootRush] " + message);
-					if (participants != null) {
-						for (Player participant : participants) {
-							if (participant != null && participant.isOnline()) {
-								LanguageService.Language participantLang = languageService.getLanguage(participant);
-								participant.sendMessage(Messages.get(participantLang, Messages.MessageKey.ATTEMPT_Y_TOO_LOW, attempt + 1, playerName, x, z));
-							}
-						}
-					}
-					findRandomLocationAttempt(world, existingLocations, future, attempt + 1, playerName, participants);
-					return;
 				}
+				probeFeedbackService.record(Messages.MessageKey.ATTEMPT_Y_TOO_LOW, attempt + 1, playerName, x, z);
+				findRandomLocationAttempt(world, placementGrid, future, attempt + 1, playerName, participants);
+				return;
+			}
 
-				Block floor = world.getBlockAt(x, floorY, z);
-				int feetY = floorY + 1;
-				Block feet = world.getBlockAt(x, feetY, z);
-				Block head = world.getBlockAt(x, feetY + 1, z);
+			if (result.verdict() == LocationProbeService.Verdict.BIOME_EXCLUDED) {
+				probeFeedbackService.record(Messages.MessageKey.ATTEMPT_BIOME_EXCLUDED, attempt + 1, playerName, x, z);
+				findRandomLocationAttempt(world, placementGrid, future, attempt + 1, playerName, participants);
+				return;
+			}
 
-				if (isSafeFloor(floor) && isPassable(feet) && isPassable(head)) {
-					if (debugEnabled) {
-						LanguageService.Language defaultLang = languageService.getDefaultLanguage();
-						String message = Messages.getString(defaultLang, Messages.MessageKey.ATTEMPT_LOCATION_FOUND, attempt + 1, playerName, x, feetY, z);
-						plugin.getLogger().info("[LootRush] " + message + " on block " + floor.getType());
-						if (!cancelled && participants != null) {
-							for (Player participant : participants) {
-								if (participant != null && participant.isOnline()) {
-									LanguageService.Language participantLang = languageService.getLanguage(participant);
-									participant.sendMessage(Messages.get(participantLang, Messages.MessageKey.ATTEMPT_LOCATION_FOUND, attempt + 1, playerName, x, feetY, z));
-								}
-							}
-						}
-					}
-					Location finalLocation = new Location(world, x + 0.5, feetY, z + 0.5);
-					preloadSurroundingChunks(world, chunkX, chunkZ).whenComplete((ignored, ex) -> {
-						if (cancelled) {
-							if (!future.isDone()) {
-								Bukkit.getScheduler().runTask(plugin, () -> future.cancel(false));
-							}
-							return;
-						}
-						if (ex != null) {
-							plugin.getLogger().warning("Не удалось прогрузить соседние чанки для точки телепорта: " + ex.getMessage());
-						}
-						refreshChunksAround(world, chunkX, chunkZ);
-						if (!future.isDone()) {
-							future.complete(finalLocation);
-						}
-					});
-				} else {
+			int feetY = result.feetY();
+			if (result.isSafe()) {
+				Location finalLocation = result.toLocation(world);
+				if (!placementGrid.tryReserve(finalLocation)) {
+					probeFeedbackService.record(Messages.MessageKey.ATTEMPT_TOO_CLOSE, attempt + 1, playerName, x, z);
+					findRandomLocationAttempt(world, placementGrid, future, attempt + 1, playerName, participants);
+					return;
+				}
+				probeFeedbackService.record(Messages.MessageKey.ATTEMPT_LOCATION_FOUND, attempt + 1, playerName, result.x(), feetY, result.z());
+				if (debugEnabled) {
 					LanguageService.Language defaultLang = languageService.getDefaultLanguage();
-					if (debugEnabled) {
-						String message = Messages.getString(defaultLang, Messages.MessageKey.ATTEMPT_UNSAFE_BLOCKS, attempt + 1, playerName, x, feetY, z, floor.getType(), feet.getType(), head.getType());
-						plugin.getLogger().info("[LootRush] " + message);
-						if (!cancelled && participants != null) {
-							for (Player participant : participants) {
-								if (participant != null && participant.isOnline()) {
-									LanguageService.Language participantLang = languageService.getLanguage(participant);
-									participant.sendMessage(Messages.get(participantLang, Messages.MessageKey.ATTEMPT_UNSAFE_BLOCKS, attempt + 1, playerName, x, feetY, z, floor.getType(), feet.getType(), head.getType()));
-								}
-							}
-						}
-					}
-					findRandomLocationAttempt(world, existingLocations, future, attempt + 1, playerName, participants);
+					String message = Messages.getString(defaultLang, Messages.MessageKey.ATTEMPT_LOCATION_FOUND, attempt + 1, playerName, result.x(), feetY, result.z());
+					plugin.getLogger().info("[LootRush] " + message + " on block " + result.floor());
 				}
-			});
+				completeWithLocation(finalLocation, future);
+			} else {
+				probeFeedbackService.record(Messages.MessageKey.ATTEMPT_UNSAFE_BLOCKS, attempt + 1, playerName, x, feetY, z, result.floor(), result.feet(), result.head());
+				if (debugEnabled) {
+					LanguageService.Language defaultLang = languageService.getDefaultLanguage();
+					String message = Messages.getString(defaultLang, Messages.MessageKey.ATTEMPT_UNSAFE_BLOCKS, attempt + 1, playerName, x, feetY, z, result.floor(), result.feet(), result.head());
+					plugin.getLogger().info("[LootRush] " + message);
+				}
+				findRandomLocationAttempt(world, placementGrid, future, attempt + 1, playerName, participants);
+			}
 		}).exceptionally(ex -> {
 			if (!cancelled) {
 				plugin.getLogger().warning("Ошибка загрузки чанка для телепорта: " + ex.getMessage());
-				if (participants != null) {
-					for (Player participant : participants) {
-						if (participant != null && participant.isOnline()) {
-							LanguageService.Language participantLang = languageService.getLanguage(participant);
-							participant.sendMessage(Messages.get(participantLang, Messages.MessageKey.CHUNK_LOAD_ERROR, ex.getMessage()));
-						}
-					}
-				}
+				probeFeedbackService.record(Messages.MessageKey.CHUNK_LOAD_ERROR, ex.getMessage());
 			}
 			if (!cancelled && !future.isDone()) {
-				findRandomLocationAttempt(world, existingLocations, future, attempt + 1, playerName, participants);
+				findRandomLocationAttempt(world, placementGrid, future, attempt + 1, playerName, participants);
 			}
 			return null;
 		});
 	}
 
+	private void completeWithLocation(Location location, CompletableFuture<Location> future) {
+		if (cancelled) {
+			if (!future.isDone()) {
+				Bukkit.getScheduler().runTask(plugin, () -> future.cancel(false));
+			}
+			return;
+		}
+		future.complete(location);
+	}
+
 	private CompletableFuture<Void> preloadAllChunksParallel(List<PlayerScatterTarget> targets, List<PlayerScatterTarget> allTargets) {
 		if (cancelled || targets.isEmpty()) {
 			return CompletableFuture.completedFuture(null);
 		}
 
-		Set<String> nearChunkKeys = new HashSet<>();
-		Set<String> farChunkKeys = new HashSet<>();
-		Map<String, World> chunkWorlds = new HashMap<>();
-
-		for (PlayerScatterTarget target : targets) {
-			Location loc = target.location();
-			int chunkX = loc.getBlockX() >> 4;
-			int chunkZ = loc.getBlockZ() >> 4;
-			World world = loc.getWorld();
+		Map<World, ChunkKeySet> readyChunks = new HashMap<>();
+		Map<World, ChunkKeySet> backgroundChunks = new HashMap<>();
+		collectPreloadChunks(targets, readyChunks, backgroundChunks);
 
-			for (int dx = -6; dx <= 6; dx++) {
-				for (int dz = -6; dz <= 6; dz++) {
-					int cx = chunkX + dx;
-					int cz = chunkZ + dz;
-					String key = world.getName() + ":" + cx + ":" + cz;
-					nearChunkKeys.add(key);
-					chunkWorlds.put(key, world);
-				}
-			}
-
-			for (int dx = -12; dx <= 12; dx++) {
-				for (int dz = -12; dz <= 12; dz++) {
-					if (Math.abs(dx) <= 6 && Math.abs(dz) <= 6) {
-						continue;
-					}
-					int cx = chunkX + dx;
-					int cz = chunkZ + dz;
-					String key = world.getName() + ":" + cx + ":" + cz;
-					farChunkKeys.add(key);
-					chunkWorlds.put(key, world);
-				}
-			}
-		}
-
-		int totalNearChunks = nearChunkKeys.size();
-		int totalFarChunks = farChunkKeys.size();
-		int totalChunks = totalNearChunks + totalFarChunks;
+		int totalReadyChunks = countChunks(readyChunks);
+		int totalBackgroundChunks = countChunks(backgroundChunks);
 
 		Bukkit.getScheduler().runTask(plugin, () -> {
 			if (cancelled) {
 				return;
 			}
-			updateLoadingBossBar(0, totalChunks);
+			updateLoadingBossBar(0, totalReadyChunks);
 			if (debugEnabled) {
 				for (PlayerScatterTarget target : allTargets) {
 					Player player = Bukkit.getPlayer(target.playerId());
@@ -419,7 +438,7 @@ public class TeleportService {
 						LanguageService.Language playerLang = languageService.getLanguage(player);
 						player.sendMessage(Component.text()
 								.append(Messages.get(playerLang, Messages.MessageKey.LOADING_NEAR_CHUNKS))
-								.append(Component.text(totalNearChunks, NamedTextColor.AQUA))
+								.append(Component.text(totalReadyChunks, NamedTextColor.AQUA))
 								.append(Messages.get(playerLang, Messages.MessageKey.CHUNKS_TEXT))
 								.build());
 					}
@@ -427,55 +446,15 @@ public class TeleportService {
 			}
 		});
 
-		List<CompletableFuture<Chunk>> nearChunkFutures = new ArrayList<>();
-		int[] nearChunkCounter = {0};
-		int[] farChunkCounter = {0};
-		for (String key : nearChunkKeys) {
-			String[] parts = key.split(":");
-			World world = chunkWorlds.get(key);
-			int chunkX = Integer.parseInt(parts[1]);
-			int chunkZ = Integer.parseInt(parts[2]);
-
-			CompletableFuture<Chunk> chunkFuture = world.getChunkAtAsyncUrgently(chunkX, chunkZ)
-				.thenApply(chunk -> {
-					if (!cancelled) {
-						Bukkit.getScheduler().runTask(plugin, () -> {
-							if (!cancelled) {
-								nearChunkCounter[0]++;
-								updateLoadingBossBar(nearChunkCounter[0] + farChunkCounter[0], totalChunks);
-								if (debugEnabled) {
-									for (PlayerScatterTarget target : allTargets) {
-										Player player = Bukkit.getPlayer(target.playerId());
-										if (player != null && player.isOnline()) {
-											LanguageService.Language playerLang = languageService.getLanguage(player);
-											player.sendMessage(Messages.get(playerLang, Messages.MessageKey.CHUNK_LOADED_WITH_COORDS, chunkX, chunkZ, nearChunkCounter[0], totalNearChunks));
-										}
-									}
-								}
-							}
-						});
-					}
-					return chunk;
-				});
-			trackOperation(chunkFuture);
-			nearChunkFutures.add(chunkFuture);
-		}
-
-		return CompletableFuture.allOf(nearChunkFutures.toArray(CompletableFuture[]::new))
+		int[] readyChunkCounter = {0};
+		int[] backgroundChunkCounter = {0};
+		return loadChunkSet(readyChunks, ChunkLoadScheduler.Priority.NEAR, readyChunkCounter, backgroundChunkCounter, totalReadyChunks, totalReadyChunks, allTargets, null)
 			.thenRun(() -> {
 				Bukkit.getScheduler().runTask(plugin, () -> {
 					if (cancelled) {
 						return;
 					}
 
-					for (String key : nearChunkKeys) {
-						String[] parts = key.split(":");
-						World world = chunkWorlds.get(key);
-						int chunkX = Integer.parseInt(parts[1]);
-						int chunkZ = Integer.parseInt(parts[2]);
-						world.refreshChunk(chunkX, chunkZ);
-					}
-
 					for (PlayerScatterTarget target : allTargets) {
 						Player player = Bukkit.getPlayer(target.playerId());
 						if (player != null && player.isOnline()) {
@@ -484,75 +463,34 @@ public class TeleportService {
 								player.sendMessage(Component.text()
 										.append(Messages.get(playerLang, Messages.MessageKey.NEAR_CHUNKS_LOADED))
 										.append(Messages.get(playerLang, Messages.MessageKey.LOADING_FAR_CHUNKS))
-										.append(Component.text(totalFarChunks, NamedTextColor.AQUA))
+										.append(Component.text(totalBackgroundChunks, NamedTextColor.AQUA))
 										.append(Messages.get(playerLang, Messages.MessageKey.CHUNKS_TEXT))
 										.build());
 							}
 						}
 					}
 				});
-			})
-			.thenCompose(v -> {
-				if (cancelled) {
-					return CompletableFuture.completedFuture(null);
-				}
-
-				List<CompletableFuture<Chunk>> farChunkFutures = new ArrayList<>();
-				for (String key : farChunkKeys) {
-					String[] parts = key.split(":");
-					World world = chunkWorlds.get(key);
-			int chunkX = Integer.parseInt(parts[1]);
-			int chunkZ = Integer.parseInt(parts[2]);
 
-			CompletableFuture<Chunk> chunkFuture = world.getChunkAtAsyncUrgently(chunkX, chunkZ)
-				.thenApply(chunk -> {
-					if (!cancelled) {
-						Bukkit.getScheduler().runTask(plugin, () -> {
-									if (!cancelled) {
-										farChunkCounter[0]++;
-										updateLoadingBossBar(nearChunkCounter[0] + farChunkCounter[0], totalChunks);
-										if (debugEnabled) {
-											for (PlayerScatterTarget target : allTargets) {
-												Player player = Bukkit.getPlayer(target.playerId());
-												if (player != null && player.isOnline()) {
-													LanguageService.Language playerLang = languageService.getLanguage(player);
-													player.sendMessage(Messages.get(playerLang, Messages.MessageKey.CHUNK_LOADED_WITH_COORDS, chunkX, chunkZ, farChunkCounter[0], totalFarChunks));
-												}
-											}
-										}
-									}
-								});
-							}
-							return chunk;
-						});
-					trackOperation(chunkFuture);
-					farChunkFutures.add(chunkFuture);
+				if (cancelled) {
+					return;
 				}
-
-				return CompletableFuture.allOf(farChunkFutures.toArray(CompletableFuture[]::new))
+				loadChunkSet(backgroundChunks, ChunkLoadScheduler.Priority.FAR, backgroundChunkCounter, readyChunkCounter, totalBackgroundChunks, 0, allTargets, null)
 					.thenRun(() -> {
 						Bukkit.getScheduler().runTask(plugin, () -> {
 							if (cancelled) {
 								return;
 							}
 
-							updateLoadingBossBar(totalChunks, totalChunks);
-							for (String key : farChunkKeys) {
-								String[] parts = key.split(":");
-								World world = chunkWorlds.get(key);
-								int chunkX = Integer.parseInt(parts[1]);
-								int chunkZ = Integer.parseInt(parts[2]);
-							world.refreshChunk(chunkX, chunkZ);
-						}
+							chunkResendService.requestAll(backgroundChunks);
 
-						for (PlayerScatterTarget target : allTargets) {
+							for (PlayerScatterTarget target : allTargets) {
 								Player player = Bukkit.getPlayer(target.playerId());
 								if (player != null && player.isOnline()) {
 									LanguageService.Language playerLang = languageService.getLanguage(player);
 									if (debugEnabled) {
 										player.sendMessage(Component.text()
 												.append(Messages.get(playerLang, Messages.MessageKey.ALL_CHUNKS_LOADED))
-												.append(Messages.get(playerLang, Messages.MessageKey.CHUNKS_COUNT, totalChunks))
+												.append(Messages.get(playerLang, Messages.MessageKey.CHUNKS_COUNT, totalReadyChunks + totalBackgroundChunks))
 												.build());
 									}
 								}
@@ -562,212 +500,227 @@ public class TeleportService {
 			});
 	}
 
-	private void refreshChunksForPlayer(Player player, Location location) {
-		World world = location.getWorld();
-		int chunkX = location.getBlockX() >> 4;
-		int chunkZ = location.getBlockZ() >> 4;
+	private CompletableFuture<Void> streamPlayers(List<PlayerScatterTarget> targets) {
+		if (cancelled || targets.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
 
-		for (int dx = -5; dx <= 5; dx++) {
-			for (int dz = -5; dz <= 5; dz++) {
-				int cx = chunkX + dx;
-				int cz = chunkZ + dz;
-				world.refreshChunk(cx, cz);
+		Map<World, ChunkKeySet> readyChunks = new HashMap<>();
+		Map<World, ChunkKeySet> backgroundChunks = new HashMap<>();
+		collectPreloadChunks(targets, readyChunks, backgroundChunks);
+
+		int totalReadyChunks = countChunks(readyChunks);
+		int totalChunks = totalReadyChunks + countChunks(backgroundChunks);
+		int readySide = readyRadius * 2 + 1;
+		int[] remaining = new int[targets.size()];
+		Arrays.fill(remaining, readySide * readySide);
+		int[] teleported = {0};
+		CompletableFuture<Void> teleportedFuture = new CompletableFuture<>();
+
+		Bukkit.getScheduler().runTask(plugin, () -> {
+			if (!cancelled) {
+				updateLoadingBossBar(0, totalChunks);
 			}
-		}
+		});
 
-		Bukkit.getScheduler().runTaskLater(plugin, () -> {
-			if (player.isOnline() && player.getWorld().equals(world)) {
-				for (int dx = -8; dx <= 8; dx++) {
-					for (int dz = -8; dz <= 8; dz++) {
-						if (Math.abs(dx) <= 5 && Math.abs(dz) <= 5) {
+		int[] readyChunkCounter = {0};
+		int[] backgroundChunkCounter = {0};
+		CompletableFuture<Void> readyFuture = loadChunkSet(readyChunks, ChunkLoadScheduler.Priority.NEAR, readyChunkCounter, backgroundChunkCounter,
+				totalReadyChunks, totalChunks, targets, (world, chunkX, chunkZ) -> {
+					for (int i = 0; i < targets.size(); i++) {
+						Location loc = targets.get(i).location();
+						if (remaining[i] <= 0 || !loc.getWorld().equals(world)
+								|| Math.abs((loc.getBlockX() >> 4) - chunkX) > readyRadius || Math.abs((loc.getBlockZ() >> 4) - chunkZ) > readyRadius) {
 							continue;
 						}
-						int cx = chunkX + dx;
-						int cz = chunkZ + dz;
-						world.refreshChunk(cx, cz);
+						if (--remaining[i] == 0) {
+							teleportToTarget(targets.get(i));
+							if (++teleported[0] >= targets.size()) {
+								teleportedFuture.complete(null);
+							}
+						}
 					}
-				}
+				});
+		readyFuture.whenComplete((ignored, throwable) -> {
+			if (throwable != null) {
+				teleportedFuture.completeExceptionally(throwable);
 			}
-		}, 5L);
+		});
 
-		Bukkit.getScheduler().runTaskLater(plugin, () -> {
-			if (player.isOnline() && player.getWorld().equals(world)) {
-				for (int dx = -12; dx <= 12; dx++) {
-					for (int dz = -12; dz <= 12; dz++) {
-						if (Math.abs(dx) <= 8 && Math.abs(dz) <= 8) {
-							continue;
-						}
-						int cx = chunkX + dx;
-						int cz = chunkZ + dz;
-						world.refreshChunk(cx, cz);
-					}
+		backgroundPreload = loadChunkSet(backgroundChunks, ChunkLoadScheduler.Priority.FAR, backgroundChunkCounter, readyChunkCounter,
+				totalChunks - totalReadyChunks, totalChunks, targets, null)
+			.thenRun(() -> Bukkit.getScheduler().runTask(plugin, () -> {
+				if (!cancelled) {
+					chunkResendService.requestAll(backgroundChunks);
 				}
-			}
-		}, 15L);
+			}));
+		return teleportedFuture;
 	}
 
-	private CompletableFuture<Void> preloadSurroundingChunks(World world, int chunkX, int chunkZ) {
-		List<CompletableFuture<Chunk>> futures = new ArrayList<>();
-		for (int dx = -2; dx <= 2; dx++) {
-			for (int dz = -2; dz <= 2; dz++) {
-				int cx = chunkX + dx;
-				int cz = chunkZ + dz;
-				futures.add(world.getChunkAtAsyncUrgently(cx, cz));
+	private void collectPreloadChunks(List<PlayerScatterTarget> targets, Map<World, ChunkKeySet> readyChunks, Map<World, ChunkKeySet> backgroundChunks) {
+		int readySide = readyRadius * 2 + 1;
+		int preloadSide = PRELOAD_RADIUS * 2 + 1;
+		for (int radius = 0; radius <= PRELOAD_RADIUS; radius++) {
+			for (PlayerScatterTarget target : targets) {
+				Location loc = target.location();
+				ChunkKeySet ready = readyChunks.computeIfAbsent(loc.getWorld(), world -> new ChunkKeySet(readySide * readySide * targets.size()));
+				if (radius <= readyRadius) {
+					addRing(ready, loc.getBlockX() >> 4, loc.getBlockZ() >> 4, radius, null);
+				} else {
+					ChunkKeySet background = backgroundChunks.computeIfAbsent(loc.getWorld(),
+							world -> new ChunkKeySet((preloadSide * preloadSide - readySide * readySide) * targets.size()));
+					addRing(background, loc.getBlockX() >> 4, loc.getBlockZ() >> 4, radius, ready);
+				}
 			}
 		}
-		return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
 	}
 
-	private void refreshChunksAround(World world, int chunkX, int chunkZ) {
-		for (int dx = -2; dx <= 2; dx++) {
-			for (int dz = -2; dz <= 2; dz++) {
-				world.refreshChunk(chunkX + dx, chunkZ + dz);
-			}
+	private void addRing(ChunkKeySet chunks, int centerX, int centerZ, int radius, ChunkKeySet exclude) {
+		if (radius == 0) {
+			addChunk(chunks, centerX, centerZ, exclude);
+			return;
+		}
+		for (int dx = -radius; dx <= radius; dx++) {
+			addChunk(chunks, centerX + dx, centerZ - radius, exclude);
+		}
+		for (int dz = -radius + 1; dz <= radius; dz++) {
+			addChunk(chunks, centerX + radius, centerZ + dz, exclude);
+		}
+		for (int dx = radius - 1; dx >= -radius; dx--) {
+			addChunk(chunks, centerX + dx, centerZ + radius, exclude);
+		}
+		for (int dz = radius - 1; dz > -radius; dz--) {
+			addChunk(chunks, centerX - radius, centerZ + dz, exclude);
 		}
 	}
 
-	private Location fallbackRandomLocation(World world, List<Location> existingLocations) {
-		Location spawn = world.getSpawnLocation().clone();
-		int offset = 5000 + random.nextInt(5000);
-		spawn.add(offset, 0, offset);
-		return spawn;
-	}
-
-	private boolean isSafeFloor(Block block) {
-		Material type = block.getType();
-		return type.isSolid() && !UNSAFE_FLOOR_BLOCKS.contains(type);
+	private void addChunk(ChunkKeySet chunks, int chunkX, int chunkZ, ChunkKeySet exclude) {
+		if (exclude == null || !exclude.contains(chunkX, chunkZ)) {
+			chunks.add(chunkX, chunkZ);
+		}
 	}
 
-	private boolean isPassable(Block block) {
-		return block.isPassable() || block.isEmpty();
+	private CompletableFuture<Void> loadChunkSet(Map<World, ChunkKeySet> chunks, ChunkLoadScheduler.Priority priority, int[] counter,
+			int[] otherCounter, int passChunks, int totalChunks, List<PlayerScatterTarget> allTargets, ChunkLoadListener listener) {
+		List<CompletableFuture<Chunk>> chunkFutures = new ArrayList<>();
+		for (Map.Entry<World, ChunkKeySet> entry : chunks.entrySet()) {
+			World world = entry.getKey();
+			entry.getValue().forEach(key -> {
+				int chunkX = ChunkKeySet.unpackX(key);
+				int chunkZ = ChunkKeySet.unpackZ(key);
+				CompletableFuture<Chunk> chunkFuture = chunkLoadScheduler.load(world, chunkX, chunkZ, priority)
+					.thenApply(chunk -> {
+						if (!cancelled) {
+							Bukkit.getScheduler().runTask(plugin, () -> {
+								if (!cancelled) {
+									chunkTicketService.pin(world, chunkX, chunkZ);
+									counter[0]++;
+									updateLoadingBossBar(counter[0] + otherCounter[0], totalChunks);
+									if (listener != null) {
+										listener.onLoaded(world, chunkX, chunkZ);
+									}
+									if (debugEnabled) {
+										for (PlayerScatterTarget target : allTargets) {
+											Player player = Bukkit.getPlayer(target.playerId());
+											if (player != null && player.isOnline()) {
+												LanguageService.Language playerLang = languageService.getLanguage(player);
+												player.sendMessage(Messages.get(playerLang, Messages.MessageKey.CHUNK_LOADED_WITH_COORDS, chunkX, chunkZ, counter[0], passChunks));
+											}
+										}
+									}
+								}
+							});
+						}
+						return chunk;
+					});
+				trackOperation(chunkFuture);
+				chunkFutures.add(chunkFuture);
+			});
+		}
+		return CompletableFuture.allOf(chunkFutures.toArray(CompletableFuture[]::new));
 	}
 
-	private int randomCoordinate() {
-		int range = maxScatterCoord - minScatterCoord;
-		if (range <= 0) range = 1;
-		int base = minScatterCoord + random.nextInt(range + 1);
-		return random.nextBoolean() ? base : -base;
+	private int countChunks(Map<World, ChunkKeySet> chunks) {
+		int total = 0;
+		for (ChunkKeySet keys : chunks.values()) {
+			total += keys.size();
+		}
+		return total;
 	}
 
-	private boolean isFarEnough(int x, int z, World world, List<Location> existingLocations) {
-		long minDistanceSq = (long) MIN_PLAYER_DISTANCE * (long) MIN_PLAYER_DISTANCE;
-		for (Location existing : existingLocations) {
-			if (!existing.getWorld().equals(world)) {
-				continue;
-			}
-			double dx = existing.getX() - x;
-			double dz = existing.getZ() - z;
-			if ((dx * dx) + (dz * dz) < minDistanceSq) {
-				return false;
-			}
+	private void requestResendAround(World world, int chunkX, int chunkZ) {
+		resendArea.clear();
+		for (int radius = 0; radius <= PRELOAD_RADIUS; radius++) {
+			addRing(resendArea, chunkX, chunkZ, radius, null);
 		}
-		return true;
+		resendArea.forEach(key -> chunkResendService.request(world, key));
 	}
 
-	private Map<LanguageService.Language, BossBar> createScatterBossBar(Collection<? extends Player> viewers, int totalPlayers) {
-		Map<LanguageService.Language, BossBar> bars = new HashMap<>();
-
-		for (LanguageService.Language lang : LanguageService.Language.values()) {
-			String title = Messages.getString(lang, Messages.MessageKey.SCATTER_BOSS_BAR, 0, totalPlayers);
-			BossBar bossBar = Bukkit.createBossBar(title, BarColor.BLUE, BarStyle.SOLID);
-			bossBar.setProgress(totalPlayers == 0 ? 1.0 : 0.0);
-			bossBar.setVisible(true);
-			bars.put(lang, bossBar);
-		}
+	private Location fallbackRandomLocation(World world, ScatterPlacementGrid placementGrid) {
+		Location spawn = world.getSpawnLocation().clone();
+		int offset = 5000 + random.nextInt(5000);
+		spawn.add(offset, 0, offset);
+		placementGrid.add(spawn);
+		return spawn;
+	}
 
+	private ProgressBar createScatterBossBar(Collection<? extends Player> viewers, int totalPlayers) {
+		ProgressBar bar = new ProgressBar(plugin, languageService, BossBar.Color.BLUE, BossBar.Overlay.PROGRESS, LOADING_BAR_UPDATE_TICKS);
+		bar.setTitle(lang -> Component.text(Messages.getString(lang, Messages.MessageKey.SCATTER_BOSS_BAR, 0, totalPlayers)));
+		bar.setProgress(totalPlayers == 0 ? 1.0 : 0.0);
 		for (Player viewer : viewers) {
-			LanguageService.Language lang = languageService.getLanguage(viewer);
-			BossBar bar = bars.get(lang);
-			if (bar != null) {
-				bar.addPlayer(viewer);
-			}
+			bar.show(viewer);
 		}
-		return bars;
+		return bar;
 	}
 
-	private void updateScatterBossBar(Map<LanguageService.Language, BossBar> bossBars, int ready, int total, String playerName, boolean searching) {
-		if (bossBars == null || total <= 0) {
+	private void updateScatterBossBar(ProgressBar bar, int ready, int total) {
+		if (bar == null || total <= 0) {
 			return;
 		}
-
-		double progress = Math.min(1.0, Math.max(0.0, (double) ready / total));
-
-		for (Map.Entry<LanguageService.Language, BossBar> entry : bossBars.entrySet()) {
-			BossBar bossBar = entry.getValue();
-			bossBar.setProgress(progress);
-			String status = Messages.getString(entry.getKey(), Messages.MessageKey.SCATTER_BOSS_BAR, ready, total);
-			bossBar.setTitle(status);
-		}
+		bar.update((double) ready / total,
+				lang -> Component.text(Messages.getString(lang, Messages.MessageKey.SCATTER_BOSS_BAR, ready, total)));
 	}
 
 	private void updateLoadingBossBar(int loadedChunks, int totalChunks) {
-		if (currentBossBars.isEmpty() || totalChunks <= 0) {
+		ProgressBar bar = currentBossBar;
+		if (bar == null || totalChunks <= 0) {
 			return;
 		}
-		double progress = Math.min(1.0, Math.max(0.0, (double) loadedChunks / totalChunks));
-		int percent = Math.min(100, Math.max(0, (int) Math.round(progress * 100)));
-		for (Map.Entry<LanguageService.Language, BossBar> entry : currentBossBars.entrySet()) {
-			BossBar bossBar = entry.getValue();
-			bossBar.setTitle(Messages.getString(entry.getKey(), Messages.MessageKey.LOADING_CHUNKS_PERCENT, percent));
-			bossBar.setProgress(progress);
-		}
+		double progress = (double) loadedChunks / totalChunks;
+		bar.update(progress, lang -> Component.text(Messages.getString(lang, Messages.MessageKey.LOADING_CHUNKS_PERCENT,
+				Math.min(100, Math.max(0, (int) Math.round(progress * 100))))));
 	}
 
-	private void hideScatterBossBar(Map<LanguageService.Language, BossBar> bossBars, boolean success) {
-		if (bossBars == null) {
+	private void hideScatterBossBar(ProgressBar bar, boolean success) {
+		if (bar == null) {
 			return;
 		}
 
 		if (success) {
-			for (BossBar bossBar : bossBars.values()) {
-				bossBar.removeAll();
-				bossBar.setVisible(false);
-			}
+			bar.hideAll();
 			return;
 		}
 
-		for (Map.Entry<LanguageService.Language, BossBar> entry : bossBars.entrySet()) {
-			BossBar bossBar = entry.getValue();
-			bossBar.setProgress(bossBar.getProgress());
-			String title = Messages.getString(entry.getKey(), Messages.MessageKey.TELEPORTATION_STOPPED);
-			bossBar.setTitle(title);
-		}
-
-		Bukkit.getScheduler().runTaskLater(plugin, () -> {
-			for (BossBar bossBar : bossBars.values()) {
-				bossBar.removeAll();
-				bossBar.setVisible(false);
-			}
-		}, 40L);
+		bar.setTitle(lang -> Component.text(Messages.getString(lang, Messages.MessageKey.TELEPORTATION_STOPPED)));
+		Bukkit.getScheduler().runTaskLater(plugin, bar::hideAll, 40L);
 	}
 
 	public void clearBossBar() {
-		for (BossBar bossBar : currentBossBars.values()) {
-			bossBar.removeAll();
-			bossBar.setVisible(false);
+		ProgressBar bar = currentBossBar;
+		currentBossBar = null;
+		if (bar != null) {
+			bar.hideAll();
 		}
-		currentBossBars.clear();
 	}
 
 	public void onPlayerLanguageChanged(Player player, LanguageService.Language oldLang, LanguageService.Language newLang) {
-		if (player == null || oldLang == null || newLang == null || oldLang == newLang || currentBossBars.isEmpty()) {
-			return;
-		}
-
-		BossBar oldBar = currentBossBars.get(oldLang);
-		BossBar newBar = currentBossBars.get(newLang);
-		if (oldBar == null && newBar == null) {
+		ProgressBar bar = currentBossBar;
+		if (player == null || oldLang == null || newLang == null || oldLang == newLang || bar == null) {
 			return;
 		}
 
-		Bukkit.getScheduler().runTask(plugin, () -> {
-			if (oldBar != null) {
-				oldBar.removePlayer(player);
-			}
-			if (newBar != null) {
-				newBar.addPlayer(player);
-			}
-		});
+		Bukkit.getScheduler().runTask(plugin, () -> bar.changeLanguage(player));
 	}
 
 	public void setDebugEnabled(boolean debugEnabled) {
@@ -789,6 +742,7 @@ public class TeleportService {
 			}
 		}
 		activeOperations.clear();
+		chunkLoadScheduler.cancelQueued();
 	}
 
 	private String formatLocation(Location location) {
@@ -797,4 +751,9 @@ public class TeleportService {
 
 	private record PlayerScatterTarget(UUID playerId, Location location) {
 	}
+
+	@FunctionalInterface
+	private interface ChunkLoadListener {
+		void onLoaded(World world, int chunkX, int chunkZ);
+	}
 }
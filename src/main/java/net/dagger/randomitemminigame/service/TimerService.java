@@ -6,11 +6,20 @@ import org.bukkit.scheduler.BukkitRunnable;
 import net.dagger.randomitemminigame.game.GameState;
 
 public class TimerService {
+	private static final String[] TWO_DIGITS = new String[60];
+
+	static {
+		for (int i = 0; i < TWO_DIGITS.length; i++) {
+			TWO_DIGITS[i] = i < 10 ? "0" + i : Integer.toString(i);
+		}
+	}
+
 	private final JavaPlugin plugin;
 	private final ScoreboardService scoreboardService;
 	private BukkitRunnable timerTask;
 	private long gameStartTime;
 	private GameState currentState;
+	private long lastElapsedSeconds = -1;
 
 	public TimerService(JavaPlugin plugin, ScoreboardService scoreboardService) {
 		this.plugin = plugin;
@@ -21,6 +30,7 @@ public class TimerService {
 		cancel();
 		this.gameStartTime = startTime;
 		this.currentState = state;
+		this.lastElapsedSeconds = -1;
 		timerTask = new BukkitRunnable() {
 			@Override
 			public void run() {
@@ -28,19 +38,24 @@ public class TimerService {
 					return;
 				}
 
-				long elapsed = System.currentTimeMillis() - gameStartTime;
-				long seconds = elapsed / 1000;
-				long minutes = seconds / 60;
-				seconds = seconds % 60;
-
-				String timeString = String.format("%02d:%02d", minutes, seconds);
+				long elapsedSeconds = (System.currentTimeMillis() - gameStartTime) / 1000;
+				if (elapsedSeconds == lastElapsedSeconds) {
+					return;
+				}
+				lastElapsedSeconds = elapsedSeconds;
 
-				scoreboardService.updateTimer(timeString);
+				scoreboardService.updateTimer(formatElapsed(elapsedSeconds));
 			}
 				};
 		timerTask.runTaskTimer(plugin, 0L, 20L);
 	}
 
+	static String formatElapsed(long elapsedSeconds) {
+		long minutes = elapsedSeconds / 60;
+		String minutesString = minutes < TWO_DIGITS.length ? TWO_DIGITS[(int) minutes] : Long.toString(minutes);
+		return minutesString + ":" + TWO_DIGITS[(int) (elapsedSeconds % 60)];
+	}
+
 	public void updateState(GameState state) {
 		this.currentState = state;
 	}
@@ -1,29 +1,117 @@
 package net.dagger.randomitemminigame.service;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 
 import net.dagger.randomitemminigame.game.Role;
 
 public class WinService {
 	private final RoleService roleService;
+	private final boolean countNested;
+	private final NestedContentsIndex nestedIndex = new NestedContentsIndex();
+	private final Set<UUID> dirtyPlayers = new HashSet<>();
+	private final Map<UUID, BitSet> heldItems = new HashMap<>();
 
-	public WinService(RoleService roleService) {
+	public WinService(RoleService roleService, boolean countNested) {
 		this.roleService = roleService;
+		this.countNested = countNested;
 	}
 
-	public boolean hasTargetItem(Player player, Material targetItem) {
-		return targetItem != null && player.getInventory().contains(targetItem);
+	public boolean hasTargetItem(Player player, RoundTarget target) {
+		if (target == null) {
+			return false;
+		}
+		BitSet held = new BitSet();
+		for (ItemStack stack : player.getInventory().getContents()) {
+			markHeld(held, stack);
+		}
+		heldItems.put(player.getUniqueId(), held);
+		return target.isSatisfiedBy(held);
+	}
+
+	public boolean mightHaveTarget(Player player, RoundTarget target) {
+		BitSet held = heldItems.get(player.getUniqueId());
+		return held == null || target.isSatisfiedBy(held);
+	}
+
+	public void noteItem(Player player, ItemStack stack) {
+		BitSet held = heldItems.get(player.getUniqueId());
+		if (held != null) {
+			markHeld(held, stack);
+		}
+	}
+
+	private void markHeld(BitSet held, ItemStack stack) {
+		if (stack == null || stack.getType().isAir()) {
+			return;
+		}
+		held.set(stack.getType().ordinal());
+		if (countNested && NestedContentsIndex.isContainer(stack)) {
+			held.or(nestedIndex.contents(stack));
+		}
+	}
+
+	public boolean isCountingNested() {
+		return countNested;
 	}
 
-	public void removeTargetItemFromPlayers(Collection<? extends Player> players, Material targetItem) {
+	public boolean markDirty(Player player) {
+		boolean wasEmpty = dirtyPlayers.isEmpty();
+		return dirtyPlayers.add(player.getUniqueId()) && wasEmpty;
+	}
+
+	public List<UUID> drainDirty() {
+		List<UUID> drained = new ArrayList<>(dirtyPlayers);
+		dirtyPlayers.clear();
+		return drained;
+	}
+
+	public void removeTargetItemFromPlayers(Collection<? extends Player> players, RoundTarget target) {
 		for (Player player : players) {
-			player.getInventory().remove(targetItem);
+			removeTargets(player.getInventory(), target);
+		}
+	}
+
+	public void removePlayer(Player player) {
+		heldItems.remove(player.getUniqueId());
+		dirtyPlayers.remove(player.getUniqueId());
+	}
+
+	public void clear() {
+		heldItems.clear();
+		dirtyPlayers.clear();
+	}
+
+	private void removeTargets(PlayerInventory inventory, RoundTarget target) {
+		ItemStack[] contents = inventory.getContents();
+		boolean changed = false;
+		for (int slot = 0; slot < contents.length; slot++) {
+			ItemStack stack = contents[slot];
+			if (stack == null) {
+				continue;
+			}
+			if (target.contains(stack.getType())) {
+				contents[slot] = null;
+				changed = true;
+			} else if (countNested && nestedIndex.removeNested(stack, target)) {
+				changed = true;
+			}
+		}
+		if (changed) {
+			inventory.setContents(contents);
 		}
 	}
 
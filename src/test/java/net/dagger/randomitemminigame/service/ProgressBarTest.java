@@ -0,0 +1,94 @@
+package net.dagger.randomitemminigame.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.junit.jupiter.api.Test;
+
+class ProgressBarTest {
+	private static final LanguageService.Language LANG = LanguageService.Language.EN;
+
+	private static ProgressBar progressBar(int minUpdateTicks) {
+		return new ProgressBar(null, new LanguageService(), BossBar.Color.BLUE, BossBar.Overlay.PROGRESS, minUpdateTicks);
+	}
+
+	@Test
+	void appliesEveryPercentChangeWithoutThrottle() {
+		ProgressBar progressBar = progressBar(0);
+		BossBar bar = progressBar.bar(LANG);
+
+		progressBar.update(0.1, null, 0);
+		assertEquals(0.1f, bar.progress(), 1.0e-6f);
+		progressBar.update(0.5, null, 0);
+		assertEquals(0.5f, bar.progress(), 1.0e-6f);
+		progressBar.update(1.0, null, 0);
+		assertEquals(1.0f, bar.progress(), 1.0e-6f);
+	}
+
+	@Test
+	void throttlesUpdatesBelowHundredPercent() {
+		ProgressBar progressBar = progressBar(10);
+		BossBar bar = progressBar.bar(LANG);
+
+		progressBar.update(0.1, null, 100);
+		assertEquals(0.1f, bar.progress(), 1.0e-6f);
+		progressBar.update(0.5, null, 105);
+		assertEquals(0.1f, bar.progress(), 1.0e-6f);
+		progressBar.update(0.5, null, 110);
+		assertEquals(0.5f, bar.progress(), 1.0e-6f);
+		progressBar.update(1.0, null, 111);
+		assertEquals(1.0f, bar.progress(), 1.0e-6f);
+	}
+
+	@Test
+	void appliesFirstUpdateAtTickZeroAndAfterHideAll() {
+		ProgressBar progressBar = progressBar(10);
+
+		progressBar.update(0.1, null, 0);
+		assertEquals(0.1f, progressBar.bar(LANG).progress(), 1.0e-6f);
+
+		progressBar.hideAll();
+		BossBar bar = progressBar.bar(LANG);
+		progressBar.update(0.5, null, 3);
+		assertEquals(0.5f, bar.progress(), 1.0e-6f);
+	}
+
+	@Test
+	void keepsTitleFromThrottledUpdate() {
+		ProgressBar progressBar = progressBar(10);
+		BossBar bar = progressBar.bar(LANG);
+		AtomicInteger evaluations = new AtomicInteger();
+
+		progressBar.update(0.1, lang -> Component.text("first"), 0);
+		progressBar.update(0.2, lang -> {
+			evaluations.incrementAndGet();
+			return Component.text("second");
+		}, 5);
+		assertEquals(Component.text("first"), bar.name());
+		assertEquals(0, evaluations.get());
+
+		progressBar.update(0.3, null, 10);
+		assertEquals(Component.text("second"), bar.name());
+		assertEquals(0.3f, bar.progress(), 1.0e-6f);
+		assertEquals(1, evaluations.get());
+	}
+
+	@Test
+	void flushesThrottledUpdateOnceWindowElapses() {
+		ProgressBar progressBar = progressBar(10);
+		BossBar bar = progressBar.bar(LANG);
+
+		progressBar.update(0.1, null, 100);
+		assertEquals(5L, progressBar.update(0.5, null, 105));
+		assertEquals(0L, progressBar.update(0.6, null, 106));
+		assertEquals(0.1f, bar.progress(), 1.0e-6f);
+
+		assertEquals(0L, progressBar.flush(110));
+		assertEquals(0.6f, bar.progress(), 1.0e-6f);
+		assertEquals(0L, progressBar.flush(111));
+		assertEquals(8L, progressBar.update(0.7, null, 112));
+	}
+}